@@ -0,0 +1,115 @@
+package com.kronos.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * @author zhangyh
+ * @Date 2026/10/19 17:30
+ * @desc 对比两次JMH的json结果（-rf json），吞吐量下降或单次操作分配字节数上升超过容忍度时以非0退出，
+ * 基线中有而本次结果中缺失的基准同样视为失败
+ * <p>
+ * 用法：BaselineCheck &lt;baseline.json&gt; &lt;result.json&gt; [tolerance]，tolerance默认0.10
+ */
+public final class BaselineCheck {
+
+    private static final String ALLOC_METRIC = "gc.alloc.rate.norm";
+
+    private BaselineCheck() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("usage: BaselineCheck <baseline.json> <result.json> [tolerance]");
+            System.exit(2);
+        }
+        double tolerance = args.length > 2 ? Double.parseDouble(args[2]) : 0.10;
+        ObjectMapper mapper = new ObjectMapper();
+        Map<String, JsonNode> baseline = index(mapper.readTree(new File(args[0])));
+        Map<String, JsonNode> current = index(mapper.readTree(new File(args[1])));
+
+        int regressions = 0;
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf("NEW   %s%n", entry.getKey());
+                continue;
+            }
+            JsonNode after = entry.getValue();
+            // 吞吐量越高越好，其余模式（平均耗时等）越低越好
+            boolean higherIsBetter = "thrpt".equals(after.path("mode").asText());
+            regressions += compare(entry.getKey(), "score",
+                    before.path("primaryMetric").path("score").asDouble(),
+                    after.path("primaryMetric").path("score").asDouble(),
+                    higherIsBetter, tolerance);
+
+            JsonNode allocBefore = allocation(before);
+            JsonNode allocAfter = allocation(after);
+            if (allocBefore != null && allocAfter != null) {
+                regressions += compare(entry.getKey(), "alloc",
+                        allocBefore.path("score").asDouble(), allocAfter.path("score").asDouble(),
+                        false, tolerance);
+            }
+        }
+        // 基准被删除、改名或者本次运行漏掉时不能静默通过
+        int missing = 0;
+        for (String key : baseline.keySet()) {
+            if (!current.containsKey(key)) {
+                System.out.printf("MISS  %s%n", key);
+                missing++;
+            }
+        }
+        System.out.printf("%d regression(s), %d missing, tolerance %.0f%%%n", regressions, missing, tolerance * 100);
+        System.exit(regressions == 0 && missing == 0 ? 0 : 1);
+    }
+
+    private static int compare(String key, String metric, double before, double after,
+                               boolean higherIsBetter, double tolerance) {
+        if (before == 0) {
+            return 0;
+        }
+        double change = (after - before) / before;
+        boolean regressed = higherIsBetter ? change < -tolerance : change > tolerance;
+        System.out.printf("%-5s %s [%s] %.3f -> %.3f (%+.1f%%)%n",
+                regressed ? "FAIL" : "OK", key, metric, before, after, change * 100);
+        return regressed ? 1 : 0;
+    }
+
+    /**
+     * 以"基准名 + 参数"作为键，同一基准不同@Param的结果分别对比
+     */
+    private static Map<String, JsonNode> index(JsonNode results) {
+        Map<String, JsonNode> index = new LinkedHashMap<>();
+        for (JsonNode result : results) {
+            StringBuilder key = new StringBuilder(result.path("benchmark").asText());
+            JsonNode params = result.path("params");
+            Iterator<Map.Entry<String, JsonNode>> fields = params.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> param = fields.next();
+                key.append(' ').append(param.getKey()).append('=').append(param.getValue().asText());
+            }
+            index.put(key.toString(), result);
+        }
+        return index;
+    }
+
+    /**
+     * -prof gc的指标名带有前缀符号（如"·gc.alloc.rate.norm"），按后缀匹配
+     */
+    private static JsonNode allocation(JsonNode result) {
+        Iterator<Map.Entry<String, JsonNode>> metrics = result.path("secondaryMetrics").fields();
+        while (metrics.hasNext()) {
+            Map.Entry<String, JsonNode> metric = metrics.next();
+            if (metric.getKey().endsWith(ALLOC_METRIC)) {
+                return metric.getValue();
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,142 @@
+package com.kronos.benchmarks;
+
+import com.kronos.spring.annotation.ConvertTime;
+import com.kronos.spring.annotation.Time;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @author zhangyh
+ * @Date 2026/10/19 16:30
+ * @desc 基准测试共用的DTO和数据构造方法，各个基准通过来回转换保证每次调用的输入相同
+ */
+public final class BenchmarkModels {
+
+    static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private BenchmarkModels() {
+    }
+
+    /**
+     * 典型的列表行：时间字段、@Time字符串以及不需要转换的普通字段
+     */
+    public static class OrderDto {
+        public long          id;
+        public String        name;
+        public BigDecimal    amount;
+        public LocalDateTime createdAt;
+        public Instant       paidAt;
+        @Time
+        public String        shippedAt;
+    }
+
+    /**
+     * 深层对象图的节点，子节点和父节点互相引用
+     */
+    public static class TreeNode {
+        public String         name;
+        public LocalDateTime  updatedAt;
+        public TreeNode       parent;
+        public List<TreeNode> children = new ArrayList<>();
+    }
+
+    /**
+     * 以普通字符串为主的DTO，标注了@Time的字段同样大多不是日期
+     */
+    public static class TextDto {
+        public String title;
+        public String description;
+        public String author;
+        public String category;
+        public String sku;
+        public String url;
+        public String remark;
+        public String status;
+        @Time
+        public String note;
+        @Time
+        public String publishedAt;
+    }
+
+    /**
+     * 通过代理调用的服务，返回值就是参数，参数先转换到后端时区，返回值再转换回客户端时区
+     */
+    public interface OrderService {
+        List<OrderDto> echo(List<OrderDto> rows);
+    }
+
+    @ConvertTime
+    public static class OrderServiceImpl implements OrderService {
+        @Override
+        public List<OrderDto> echo(List<OrderDto> rows) {
+            return rows;
+        }
+    }
+
+    static List<OrderDto> orders(int size) {
+        List<OrderDto> rows = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            OrderDto row = new OrderDto();
+            row.id = i;
+            row.name = "order-" + i;
+            row.amount = BigDecimal.valueOf(i, 2);
+            row.createdAt = BASE.plusMinutes(i);
+            row.paidAt = BASE.plusMinutes(i + 5).toInstant(ZoneOffset.UTC);
+            row.shippedAt = BASE.plusMinutes(i + 60).toString().replace('T', ' ') + ":00";
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    /**
+     * 满树，depth层，每个节点fanout个子节点
+     */
+    static TreeNode tree(int depth, int fanout) {
+        TreeNode root = node("root", null);
+        grow(root, depth - 1, fanout);
+        return root;
+    }
+
+    private static void grow(TreeNode parent, int depth, int fanout) {
+        if (depth == 0) {
+            return;
+        }
+        for (int i = 0; i < fanout; i++) {
+            TreeNode child = node(parent.name + "." + i, parent);
+            parent.children.add(child);
+            grow(child, depth - 1, fanout);
+        }
+    }
+
+    private static TreeNode node(String name, TreeNode parent) {
+        TreeNode node = new TreeNode();
+        node.name = name;
+        node.parent = parent;
+        node.updatedAt = BASE.plusMinutes(name.length());
+        return node;
+    }
+
+    static List<TextDto> texts(int size) {
+        List<TextDto> rows = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            TextDto row = new TextDto();
+            row.title = "Quarterly report " + i;
+            row.description = "Revenue grew 12% compared with the same period last year";
+            row.author = "zhangyh";
+            row.category = "finance";
+            row.sku = "SKU-2025-" + i;
+            row.url = "https://example.com/reports/" + i;
+            row.remark = "2025 Q1";
+            row.status = "PUBLISHED";
+            row.note = "reviewed by 3 people";
+            row.publishedAt = i % 10 == 0 ? "2025-01-01 08:00:00" : "N/A";
+            rows.add(row);
+        }
+        return rows;
+    }
+}
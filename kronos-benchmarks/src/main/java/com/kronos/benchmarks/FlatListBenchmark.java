@@ -0,0 +1,63 @@
+package com.kronos.benchmarks;
+
+import com.kronos.benchmarks.BenchmarkModels.OrderDto;
+import com.kronos.benchmarks.BenchmarkModels.OrderService;
+import com.kronos.spring.config.KronosProperty;
+import com.kronos.spring.support.TimeZoneConverter;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Method;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author zhangyh
+ * @Date 2026/10/19 16:45
+ * @desc 扁平DTO列表的转换耗时随列表大小的变化，对比按运行时类型分派和按方法声明类型遍历
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FlatListBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int size;
+
+    private TimeZoneConverter converter;
+    private ZoneId            clientZone;
+    private Method            method;
+    private Object[]          arguments;
+    private List<OrderDto>    rows;
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        converter = new TimeZoneConverter(new KronosProperty(), Collections.emptyList());
+        clientZone = ZoneId.of("America/New_York");
+        method = OrderService.class.getMethod("echo", List.class);
+        rows = BenchmarkModels.orders(size);
+        arguments = new Object[]{rows};
+    }
+
+    /**
+     * 每个节点按getClass()分派，来回各转换一次
+     */
+    @Benchmark
+    public Object dynamic() {
+        converter.toClientTimeZone(rows, clientZone);
+        return converter.toBackendTimeZone(rows, clientZone);
+    }
+
+    /**
+     * 按List<OrderDto>的声明类型遍历，与拦截器的调用方式一致
+     */
+    @Benchmark
+    public Object typed() {
+        converter.argumentsToBackendTimeZone(arguments, clientZone, null, method);
+        return converter.toClientTimeZone(rows, clientZone, method);
+    }
+}
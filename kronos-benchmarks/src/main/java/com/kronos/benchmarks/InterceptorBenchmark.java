@@ -0,0 +1,63 @@
+package com.kronos.benchmarks;
+
+import com.kronos.benchmarks.BenchmarkModels.OrderDto;
+import com.kronos.benchmarks.BenchmarkModels.OrderService;
+import com.kronos.benchmarks.BenchmarkModels.OrderServiceImpl;
+import com.kronos.spring.annotation.ConvertTime;
+import com.kronos.spring.aop.KronosAnnotationAdvisor;
+import com.kronos.spring.aop.KronosAnnotationInterceptor;
+import com.kronos.spring.config.KronosProperty;
+import com.kronos.spring.support.TimeZoneContextHolder;
+import com.kronos.spring.support.TimeZoneConverter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.aop.framework.ProxyFactory;
+
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author zhangyh
+ * @Date 2026/10/19 17:15
+ * @desc 通过代理调用@ConvertTime方法的完整开销：参数转换到后端时区，返回值转换回客户端时区
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InterceptorBenchmark {
+
+    @Param({"1", "100"})
+    public int size;
+
+    private TimeZoneConverter converter;
+    private OrderService      service;
+    private List<OrderDto>    rows;
+
+    /**
+     * Scope.Thread的状态由执行基准的线程初始化，时区绑定在同一个线程上
+     */
+    @Setup
+    public void setup() {
+        converter = new TimeZoneConverter(new KronosProperty(), Collections.emptyList());
+        ProxyFactory factory = new ProxyFactory(new OrderServiceImpl());
+        factory.addInterface(OrderService.class);
+        factory.addAdvisor(new KronosAnnotationAdvisor(new KronosAnnotationInterceptor(converter), ConvertTime.class));
+        service = (OrderService) factory.getProxy();
+        rows = BenchmarkModels.orders(size);
+        TimeZoneContextHolder.setZoneId(ZoneId.of("America/New_York"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        TimeZoneContextHolder.clear();
+    }
+
+    @Benchmark
+    public Object invoke() {
+        return service.echo(rows);
+    }
+}
@@ -0,0 +1,83 @@
+package com.kronos.benchmarks;
+
+import com.kronos.benchmarks.BenchmarkModels.OrderDto;
+import com.kronos.benchmarks.BenchmarkModels.TextDto;
+import com.kronos.benchmarks.BenchmarkModels.TreeNode;
+import com.kronos.spring.config.KronosProperty;
+import com.kronos.spring.support.TimeZoneConverter;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author zhangyh
+ * @Date 2026/10/19 16:55
+ * @desc 不同形状的对象图：带父引用的深层树、以普通字符串为主的DTO以及Map，每次调用来回各转换一次
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ObjectGraphBenchmark {
+
+    private static final int SIZE = 1000;
+
+    private TimeZoneConverter          converter;
+    private ZoneId                     clientZone;
+    private TreeNode                   tree;
+    private List<TextDto>              texts;
+    private Map<String, OrderDto>      ordersById;
+    private Map<String, LocalDateTime> timesByName;
+
+    @Setup
+    public void setup() {
+        converter = new TimeZoneConverter(new KronosProperty(), Collections.emptyList());
+        clientZone = ZoneId.of("America/New_York");
+        // 7层、每层3个子节点，共1093个节点，超过cycleTrackingDepth后启用哈希集合检测循环
+        tree = BenchmarkModels.tree(7, 3);
+        texts = BenchmarkModels.texts(SIZE);
+        ordersById = new LinkedHashMap<>();
+        for (OrderDto order : BenchmarkModels.orders(SIZE)) {
+            ordersById.put("order-" + order.id, order);
+        }
+        timesByName = new LinkedHashMap<>();
+        for (int i = 0; i < SIZE; i++) {
+            timesByName.put("t" + i, BenchmarkModels.BASE.plusMinutes(i));
+        }
+    }
+
+    @Benchmark
+    public Object nestedGraph() {
+        converter.toClientTimeZone(tree, clientZone);
+        return converter.toBackendTimeZone(tree, clientZone);
+    }
+
+    /**
+     * 大多数字符串在结构预检阶段就被判定为非日期
+     */
+    @Benchmark
+    public Object stringHeavy() {
+        converter.toClientTimeZone(texts, clientZone);
+        return converter.toBackendTimeZone(texts, clientZone);
+    }
+
+    @Benchmark
+    public Object mapOfObjects() {
+        converter.toClientTimeZone(ordersById, clientZone);
+        return converter.toBackendTimeZone(ordersById, clientZone);
+    }
+
+    @Benchmark
+    public Object mapOfTimes() {
+        converter.toClientTimeZone(timesByName, clientZone);
+        return converter.toBackendTimeZone(timesByName, clientZone);
+    }
+}
@@ -0,0 +1,76 @@
+package com.kronos.benchmarks;
+
+import com.kronos.spring.config.KronosProperty;
+import com.kronos.spring.support.TimeZoneConverter;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author zhangyh
+ * @Date 2026/10/18 19:40
+ * @desc 大集合响应的转换耗时随并行度的变化，parallelism为0时表示顺序转换
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParallelConversionBenchmark {
+
+    @Param({"50000", "500000"})
+    public int size;
+
+    @Param({"0", "1", "2", "4", "8"})
+    public int parallelism;
+
+    private TimeZoneConverter converter;
+    private ZoneId            clientZone;
+    private List<Row>         rows;
+
+    @Setup
+    public void setup() {
+        KronosProperty properties = new KronosProperty();
+        properties.setParallelThreshold(parallelism > 0 ? 10_000 : 0);
+        properties.setParallelism(parallelism);
+        converter = new TimeZoneConverter(properties, Collections.emptyList());
+        clientZone = ZoneId.of("America/New_York");
+
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 0, 0);
+        rows = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Row row = new Row();
+            row.id = i;
+            row.createdAt = base.plusMinutes(i);
+            row.updatedAt = base.plusMinutes(i + 30);
+            rows.add(row);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        converter.shutdown();
+    }
+
+    /**
+     * 来回各转换一次，保证每次调用的输入相同
+     */
+    @Benchmark
+    public Object roundTrip() {
+        converter.toClientTimeZone(rows, clientZone);
+        return converter.toBackendTimeZone(rows, clientZone);
+    }
+
+    public static class Row {
+        public long          id;
+        public LocalDateTime createdAt;
+        public LocalDateTime updatedAt;
+        public String        name = "row";
+    }
+}
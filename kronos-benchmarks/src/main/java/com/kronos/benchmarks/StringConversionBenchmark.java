@@ -0,0 +1,114 @@
+package com.kronos.benchmarks;
+
+import com.kronos.spring.support.converters.StringDateTimeConverter;
+import com.kronos.spring.support.format.CompiledFormat;
+import com.kronos.spring.support.format.FastDateTimeCodec;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author zhangyh
+ * @Date 2026/10/18 15:02
+ * @desc 默认格式字符串转换的对比：专用编解码器、StringDateTimeConverter与原先基于java.time对象链的实现
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringConversionBenchmark {
+
+    private static final String PATTERN = "yyyy-MM-dd HH:mm:ss";
+    private static final int    SIZE    = 1024;
+
+    @Param({"Asia/Shanghai", "America/New_York"})
+    public String clientZone;
+
+    private ZoneId                  fromZone;
+    private ZoneId                  toZone;
+    private String[]                values;
+    private DateTimeFormatter       formatter;
+    private CompiledFormat          format;
+    private FastDateTimeCodec       codec;
+    private StringDateTimeConverter converter;
+
+    @Setup
+    public void setup() {
+        fromZone = ZoneId.of("UTC");
+        toZone = ZoneId.of(clientZone);
+        formatter = DateTimeFormatter.ofPattern(PATTERN);
+        format = CompiledFormat.of(PATTERN);
+        codec = FastDateTimeCodec.forPattern(PATTERN);
+        converter = new StringDateTimeConverter();
+
+        Random random = new Random(42);
+        values = new String[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            long epochSecond = 1577836800L + (long) (random.nextDouble() * 315_360_000L);
+            values[i] = LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC).format(formatter);
+        }
+    }
+
+    /**
+     * 原先的实现：每次编译格式，先按ZonedDateTime解析失败后再按LocalDateTime解析
+     */
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void legacyConverter(Blackhole blackhole) {
+        for (String value : values) {
+            blackhole.consume(legacyConvert(value));
+        }
+    }
+
+    /**
+     * 使用缓存的DateTimeFormatter走java.time对象链
+     */
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void javaTimeChain(Blackhole blackhole) {
+        for (String value : values) {
+            blackhole.consume(LocalDateTime.parse(value, formatter).atZone(fromZone)
+                    .withZoneSameInstant(toZone).format(formatter));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void stringConverter(Blackhole blackhole) {
+        for (String value : values) {
+            blackhole.consume(converter.convert(value, fromZone, toZone, format));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void fastCodec(Blackhole blackhole) {
+        for (String value : values) {
+            blackhole.consume(codec.convert(value, fromZone, toZone));
+        }
+    }
+
+    private Object legacyConvert(String value) {
+        try {
+            DateTimeFormatter formatter = DateTimeFormatter.ofPattern(PATTERN);
+            ZonedDateTime dateTime;
+            try {
+                dateTime = ZonedDateTime.parse(value, formatter);
+            } catch (Exception e) {
+                dateTime = LocalDateTime.parse(value, formatter).atZone(fromZone);
+            }
+            return dateTime.withZoneSameInstant(toZone).format(formatter);
+        } catch (Exception e) {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.kronos.benchmarks;
+
+import com.kronos.spring.support.TypeConverter;
+import com.kronos.spring.support.ZonePairConverter;
+import com.kronos.spring.support.converters.*;
+import com.kronos.spring.support.format.CompiledFormat;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.*;
+import java.util.Date;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author zhangyh
+ * @Date 2026/10/19 17:05
+ * @desc 每个内置TypeConverter通过缓存的时区对转换单个值的吞吐量
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TypeConverterBenchmark {
+
+    private static final int SIZE = 1024;
+
+    private ZonePairConverter zonePair;
+    private CompiledFormat    format;
+
+    private final StringDateTimeConverter stringConverter         = new StringDateTimeConverter();
+    private final DateConverter           dateConverter           = new DateConverter();
+    private final LocalDateTimeConverter  localDateTimeConverter  = new LocalDateTimeConverter();
+    private final ZonedDateTimeConverter  zonedDateTimeConverter  = new ZonedDateTimeConverter();
+    private final InstantConverter        instantConverter        = new InstantConverter();
+    private final OffsetDateTimeConverter offsetDateTimeConverter = new OffsetDateTimeConverter();
+
+    private String[]         strings;
+    private Date[]           dates;
+    private LocalDateTime[]  localDateTimes;
+    private ZonedDateTime[]  zonedDateTimes;
+    private Instant[]        instants;
+    private OffsetDateTime[] offsetDateTimes;
+
+    @Setup
+    public void setup() {
+        zonePair = new ZonePairConverter(ZoneId.of("UTC"), ZoneId.of("America/New_York"));
+        format = CompiledFormat.of("yyyy-MM-dd HH:mm:ss");
+
+        strings = new String[SIZE];
+        dates = new Date[SIZE];
+        localDateTimes = new LocalDateTime[SIZE];
+        zonedDateTimes = new ZonedDateTime[SIZE];
+        instants = new Instant[SIZE];
+        offsetDateTimes = new OffsetDateTime[SIZE];
+        Random random = new Random(42);
+        for (int i = 0; i < SIZE; i++) {
+            long epochSecond = 1577836800L + (long) (random.nextDouble() * 315_360_000L);
+            LocalDateTime value = LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+            strings[i] = value.toString().replace('T', ' ');
+            dates[i] = new Date(epochSecond * 1000);
+            localDateTimes[i] = value;
+            zonedDateTimes[i] = value.atZone(ZoneOffset.UTC);
+            instants[i] = Instant.ofEpochSecond(epochSecond);
+            offsetDateTimes[i] = value.atOffset(ZoneOffset.UTC);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void string(Blackhole blackhole) {
+        convertAll(stringConverter, strings, blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void date(Blackhole blackhole) {
+        convertAll(dateConverter, dates, blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void localDateTime(Blackhole blackhole) {
+        convertAll(localDateTimeConverter, localDateTimes, blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void zonedDateTime(Blackhole blackhole) {
+        convertAll(zonedDateTimeConverter, zonedDateTimes, blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void instant(Blackhole blackhole) {
+        convertAll(instantConverter, instants, blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void offsetDateTime(Blackhole blackhole) {
+        convertAll(offsetDateTimeConverter, offsetDateTimes, blackhole);
+    }
+
+    private <T> void convertAll(TypeConverter<T> converter, T[] values, Blackhole blackhole) {
+        for (T value : values) {
+            blackhole.consume(converter.convert(value, zonePair, format));
+        }
+    }
+}
@@ -13,7 +13,7 @@ import java.lang.annotation.*;
 public @interface Time {
 
     /**
-     * 日期时间格式, 用于字符串类型的转换
+     * 日期时间格式, 用于字符串类型的转换，为空时使用全局配置的defaultDateTimeFormat
      */
-    String format() default "yyyy-MM-dd HH:mm:ss";
+    String format() default "";
 }
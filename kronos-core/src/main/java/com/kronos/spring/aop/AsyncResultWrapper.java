@@ -0,0 +1,191 @@
+package com.kronos.spring.aop;
+
+import com.kronos.spring.support.TimeZoneContext;
+import com.kronos.spring.support.TimeZoneContextHolder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.DeferredResultProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncManager;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+
+import java.lang.reflect.Method;
+import java.time.ZoneId;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Future;
+
+/**
+ * @author zhangyh
+ * @Date 2026/10/19 9:20
+ * @desc 异步返回值的包装，在值产生时才转换，不会遍历Future内部的字段。
+ * Callable和CompletionStage替换为转换结果的新对象；DeferredResult和WebAsyncTask保持原对象，超时、执行器和回调都不受影响，
+ * 通过当前请求的WebAsyncManager注册拦截器，结果产生后原地转换
+ */
+@Slf4j
+final class AsyncResultWrapper {
+
+    // 同一个请求只处理一个异步结果，嵌套的@ConvertTime方法重复注册时只保留最外层的
+    private static final String INTERCEPTOR_KEY = AsyncResultWrapper.class.getName();
+
+    private final KronosAnnotationInterceptor interceptor;
+
+    AsyncResultWrapper(KronosAnnotationInterceptor interceptor) {
+        this.interceptor = interceptor;
+    }
+
+    /**
+     * 是否为异步结果，这类结果不能直接遍历转换
+     */
+    static boolean isAsync(Object result) {
+        return result instanceof CompletionStage || result instanceof Future || result instanceof Callable
+                || result instanceof DeferredResult || result instanceof WebAsyncTask;
+    }
+
+    /**
+     * 包装异步结果，无需替换（原地转换）、无法包装或包装后的类型与方法声明的返回类型不兼容时返回null
+     * @param convertValue 为false时只在Callable、WebAsyncTask执行期间绑定时区（Jackson引擎），不转换结果
+     */
+    Object wrap(Object result, Method method, ZoneId zoneId, boolean convertValue) {
+        Class<?> declaredType = method.getReturnType();
+        TimeZoneContext context = TimeZoneContextHolder.getContext();
+        if (result instanceof Callable && declaredType.isAssignableFrom(Callable.class)) {
+            return convertingCallable((Callable<?>) result, method, zoneId, context, convertValue);
+        }
+        if (result instanceof WebAsyncTask) {
+            convertOnCompletion((WebAsyncTask<?>) result, method, zoneId, context, convertValue);
+            return null;
+        }
+        if (!convertValue) {
+            return null;
+        }
+        if (result instanceof CompletionStage) {
+            Object converted = ((CompletionStage<?>) result)
+                    .thenApply(value -> convert(value, method, zoneId, context));
+            return declaredType.isInstance(converted) ? converted : null;
+        }
+        if (result instanceof DeferredResult) {
+            convertOnCompletion((DeferredResult<?>) result, method, zoneId, context);
+        }
+        return null;
+    }
+
+    private Callable<Object> convertingCallable(Callable<?> callable, Method method, ZoneId zoneId,
+                                                TimeZoneContext context, boolean convertValue) {
+        return () -> {
+            // Callable在Spring MVC的异步线程池中执行，执行期间同样能读到请求的时区
+            Object value = TimeZoneContextHolder.callWith(context, callable);
+            return convertValue ? convert(value, method, zoneId, context) : value;
+        };
+    }
+
+    /**
+     * 在当前请求的WebAsyncManager上注册拦截器，结果产生后原地转换。结果只能原地修改，
+     * record、不可变集合以及直接作为结果的时间值无法替换，保持原值
+     */
+    private void convertOnCompletion(DeferredResult<?> result, Method method, ZoneId zoneId,
+                                     TimeZoneContext context) {
+        WebAsyncManager asyncManager = currentAsyncManager(method);
+        if (asyncManager == null) {
+            return;
+        }
+        asyncManager.registerDeferredResultInterceptor(INTERCEPTOR_KEY, new DeferredResultProcessingInterceptor() {
+            @Override
+            public <T> void postProcess(NativeWebRequest request, DeferredResult<T> deferredResult,
+                                        Object concurrentResult) {
+                if (deferredResult == result) {
+                    convertInPlace(concurrentResult, method, zoneId, context);
+                }
+            }
+        });
+    }
+
+    /**
+     * WebAsyncTask的Callable在异步线程上执行前后都会经过拦截器：执行前绑定请求的时区，执行后原地转换结果并恢复。
+     * ScopedValue策略下只能在作用域内设置时区，这时不绑定，只转换结果
+     */
+    private void convertOnCompletion(WebAsyncTask<?> task, Method method, ZoneId zoneId,
+                                     TimeZoneContext context, boolean convertValue) {
+        WebAsyncManager asyncManager = currentAsyncManager(method);
+        if (asyncManager == null) {
+            return;
+        }
+        Callable<?> callable = task.getCallable();
+        asyncManager.registerCallableInterceptor(INTERCEPTOR_KEY, new CallableProcessingInterceptor() {
+
+            private TimeZoneContext previous;
+
+            private boolean bound;
+
+            @Override
+            public <T> void preProcess(NativeWebRequest request, Callable<T> current) {
+                if (current != callable) {
+                    return;
+                }
+                previous = TimeZoneContextHolder.getContext();
+                try {
+                    TimeZoneContextHolder.setContext(context);
+                    bound = true;
+                } catch (IllegalStateException e) {
+                    log.debug("{}的WebAsyncTask执行线程没有时区作用域，执行期间不绑定时区", method);
+                }
+            }
+
+            @Override
+            public <T> void postProcess(NativeWebRequest request, Callable<T> current, Object concurrentResult) {
+                if (current != callable) {
+                    return;
+                }
+                try {
+                    if (convertValue) {
+                        convertInPlace(concurrentResult, method, zoneId, context);
+                    }
+                } finally {
+                    if (bound) {
+                        TimeZoneContextHolder.setContext(previous);
+                    }
+                }
+            }
+        });
+    }
+
+    private static WebAsyncManager currentAsyncManager(Method method) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        Object asyncManager = attributes != null
+                ? attributes.getAttribute(WebAsyncUtils.WEB_ASYNC_MANAGER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)
+                : null;
+        if (!(asyncManager instanceof WebAsyncManager)) {
+            log.debug("{}不在Spring MVC请求中执行，异步结果不转换", method);
+            return null;
+        }
+        return (WebAsyncManager) asyncManager;
+    }
+
+    private void convertInPlace(Object value, Method method, ZoneId zoneId, TimeZoneContext context) {
+        Object converted = convert(value, method, zoneId, context);
+        if (converted != value) {
+            log.debug("{}的异步结果{}无法原地转换，保持原值", method, value.getClass().getName());
+        }
+    }
+
+    /**
+     * 转换最终的值，异常结果原样返回
+     */
+    private Object convert(Object value, Method method, ZoneId zoneId, TimeZoneContext context) {
+        if (value == null || value instanceof Throwable) {
+            return value;
+        }
+        // 完成回调可能在任意线程上执行，转换期间绑定请求的时区
+        try {
+            return TimeZoneContextHolder.callWith(context, () -> interceptor.convertElement(value, method, zoneId));
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,11 +1,24 @@
 package com.kronos.spring.aop;
 
+import com.kronos.spring.annotation.Time;
+import com.kronos.spring.config.ConversionEngine;
+import com.kronos.spring.jfr.ConversionEvent;
+import com.kronos.spring.support.ConversionStats;
 import com.kronos.spring.support.TimeZoneContextHolder;
 import com.kronos.spring.support.TimeZoneConverter;
+import com.kronos.spring.support.format.CompiledFormat;
+import jdk.jfr.EventType;
 import org.aopalliance.intercept.MethodInterceptor;
 import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.bind.annotation.RequestBody;
 
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
 import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author zhangyh
@@ -14,31 +27,217 @@ import java.time.ZoneId;
  */
 public class KronosAnnotationInterceptor implements MethodInterceptor {
 
+    private static final CompiledFormat[] NO_FORMATS = new CompiledFormat[0];
+    private static final boolean[]        NO_BODIES  = new boolean[0];
+
+    // 没有JFR录制开启ConversionEvent时不创建事件对象
+    private static final EventType CONVERSION_EVENT = EventType.getEventType(ConversionEvent.class);
+
+    private static final boolean REACTOR_PRESENT = ClassUtils.isPresent("reactor.core.publisher.Mono",
+            KronosAnnotationInterceptor.class.getClassLoader());
+
     private final TimeZoneConverter converter;
 
+    // 为true时请求体和返回值交给Jackson转换，这里只处理其余参数
+    private final boolean           serializationEngine;
+
+    // 流式返回值在消费时逐个元素转换
+    private final StreamingResultWrapper streamingResultWrapper;
+
+    // 异步返回值在完成时转换
+    private final AsyncResultWrapper asyncResultWrapper;
+
+    // Mono/Flux返回值在订阅时从Reactor Context中取得时区，没有Reactor时为null
+    private final ReactiveConversionSupport reactiveConversionSupport;
+
+    // 缓存方法参数上@Time(format)指定的格式，没有任何参数指定格式时为NO_FORMATS
+    private final Map<Method, CompiledFormat[]> parameterFormatCache = new ConcurrentHashMap<>();
+
+    // 缓存方法参数是否为@RequestBody，没有请求体参数时为NO_BODIES
+    private final Map<Method, boolean[]>        bodyParameterCache   = new ConcurrentHashMap<>();
+
     public KronosAnnotationInterceptor(TimeZoneConverter converter) {
+        this(converter, ConversionEngine.INTERCEPTOR);
+    }
+
+    public KronosAnnotationInterceptor(TimeZoneConverter converter, ConversionEngine engine) {
         this.converter = converter;
+        this.serializationEngine = engine == ConversionEngine.JACKSON;
+        this.streamingResultWrapper = new StreamingResultWrapper(this);
+        this.asyncResultWrapper = new AsyncResultWrapper(this);
+        this.reactiveConversionSupport = REACTOR_PRESENT ? new ReactiveConversionSupport(this, converter) : null;
     }
 
     @Override
     public Object invoke(MethodInvocation invocation) throws Throwable {
-        ZoneId zoneId = ZoneId.of(TimeZoneContextHolder.getTimeZone().getID());
-        beforeMethod(zoneId,  invocation.getArguments());
+        // 响应式方法在事件循环上执行，时区只能从Reactor Context中获取，Jackson引擎同样按元素转换
+        if (reactiveConversionSupport != null
+                && ReactiveConversionSupport.isReactiveType(invocation.getMethod().getReturnType())) {
+            return reactiveConversionSupport.invoke(invocation);
+        }
+        ZoneId zoneId = TimeZoneContextHolder.getZoneId();
+        // 没有时区上下文或客户端时区与后端时区规则相同时，参数和返回值都不需要遍历
+        if (zoneId == null || converter.isBackendEquivalent(zoneId)) {
+            return invocation.proceed();
+        }
+        Method method = invocation.getMethod();
+        if (CONVERSION_EVENT.isEnabled()) {
+            return invokeTraced(invocation, method, zoneId, new ConversionEvent());
+        }
+        if (serializationEngine) {
+            beforeMethodWithoutBody(zoneId, method, invocation.getArguments(), null);
+            return afterMethod(invocation.proceed(), method, zoneId, null);
+        }
+        beforeMethod(zoneId, method, invocation.getArguments(), null);
+        return afterMethod(invocation.proceed(), method, zoneId, null);
+    }
+
+    /**
+     * JFR录制开启了ConversionEvent时，统计本次调用参数和返回值的遍历计数以及转换耗时
+     */
+    private Object invokeTraced(MethodInvocation invocation, Method method, ZoneId zoneId, ConversionEvent event)
+            throws Throwable {
+        event.begin();
+        ConversionStats trace = new ConversionStats();
+        long start = System.nanoTime();
+        if (serializationEngine) {
+            beforeMethodWithoutBody(zoneId, method, invocation.getArguments(), trace);
+        } else {
+            beforeMethod(zoneId, method, invocation.getArguments(), trace);
+        }
+        long conversionTime = System.nanoTime() - start;
         Object result = invocation.proceed();
-        return converter.toClientTimeZone(result, zoneId);
+        start = System.nanoTime();
+        result = afterMethod(result, method, zoneId, trace);
+        conversionTime += System.nanoTime() - start;
+        event.end();
+        commit(event, method, zoneId, trace, conversionTime);
+        return result;
+    }
+
+    /**
+     * 转换异步、流式和响应式返回值中的单个元素，按方法返回类型的元素类型遍历，同样记录指标和JFR事件
+     */
+    Object convertElement(Object value, Method method, ZoneId zoneId) {
+        if (!CONVERSION_EVENT.isEnabled()) {
+            return converter.elementToClientTimeZone(value, zoneId, method, null);
+        }
+        ConversionEvent event = new ConversionEvent();
+        event.begin();
+        ConversionStats trace = new ConversionStats();
+        long start = System.nanoTime();
+        Object converted = converter.elementToClientTimeZone(value, zoneId, method, trace);
+        long conversionTime = System.nanoTime() - start;
+        event.end();
+        commit(event, method, zoneId, trace, conversionTime);
+        return converted;
+    }
+
+    private static void commit(ConversionEvent event, Method method, ZoneId zoneId, ConversionStats trace,
+                               long conversionTime) {
+        if (event.shouldCommit()) {
+            event.method = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+            event.clientZone = zoneId.getId();
+            event.nodesVisited = trace.getNodesVisited();
+            event.fieldsConverted = trace.getFieldsConverted();
+            event.stringsParsed = trace.getStringsParsed();
+            event.stringsRejected = trace.getStringsRejected();
+            event.conversionTime = conversionTime;
+            event.cycleTracking = trace.isDeepTrackingUsed();
+            event.budgetExceeded = trace.getBudgetExceeded();
+            event.commit();
+        }
+    }
+
+    /**
+     * 流式和异步返回值包装为按需转换，其余返回值在拦截器引擎下整体转换
+     */
+    private Object afterMethod(Object result, Method method, ZoneId zoneId, ConversionStats trace) {
+        if (AsyncResultWrapper.isAsync(result)) {
+            // 无法包装的异步结果（例如普通的Future）原样返回，不遍历其内部字段
+            Object wrapped = asyncResultWrapper.wrap(result, method, zoneId, !serializationEngine);
+            return wrapped != null ? wrapped : result;
+        }
+        if (StreamingResultWrapper.isStreaming(result)) {
+            Object wrapped = streamingResultWrapper.wrap(result, method, zoneId, !serializationEngine);
+            if (wrapped != null) {
+                return wrapped;
+            }
+        }
+        return serializationEngine ? result : converter.toClientTimeZone(result, zoneId, method, trace);
+    }
+
+    /**
+     * 启动时预先解析方法参数的格式、请求体标记以及参数和返回值的类型计划，第一次请求不再解析注解和泛型
+     */
+    public void warmUp(Method method) {
+        parameterFormatCache.computeIfAbsent(method, this::resolveParameterFormats);
+        converter.getObjectProcessor().getReturnPlan(method);
+        if (serializationEngine) {
+            bodyParameterCache.computeIfAbsent(method, KronosAnnotationInterceptor::resolveBodyParameters);
+        }
     }
 
     public void beforeMethod(ZoneId zoneId, Object[] params) {
-        //获取方法参数上的注解（因为方法可以有多参数；参数上可以有多注解，返回二维数组）
-        for (int i = 0; i < params.length; i++) {
-            Object param = params[i];
-            if (param == null) {
-                continue;
+        // 所有参数共享一个转换上下文，转换后的值直接写回参数数组
+        converter.argumentsToBackendTimeZone(params, zoneId);
+    }
+
+    public void beforeMethod(ZoneId zoneId, Method method, Object[] params) {
+        beforeMethod(zoneId, method, params, null);
+    }
+
+    private void beforeMethod(ZoneId zoneId, Method method, Object[] params, ConversionStats trace) {
+        CompiledFormat[] formats = parameterFormatCache.computeIfAbsent(method, this::resolveParameterFormats);
+        converter.argumentsToBackendTimeZone(params, zoneId, formats == NO_FORMATS ? null : formats, method, trace);
+    }
+
+    /**
+     * 跳过@RequestBody参数，请求体已经在反序列化时转换过
+     */
+    private void beforeMethodWithoutBody(ZoneId zoneId, Method method, Object[] params, ConversionStats trace) {
+        boolean[] bodies = bodyParameterCache.computeIfAbsent(method, KronosAnnotationInterceptor::resolveBodyParameters);
+        if (bodies == NO_BODIES) {
+            beforeMethod(zoneId, method, params, trace);
+            return;
+        }
+        Object[] others = params.clone();
+        for (int i = 0; i < bodies.length; i++) {
+            if (bodies[i]) {
+                others[i] = null;
             }
-            Object convertedParam = converter.toBackendTimeZone(param, zoneId);
-            if (convertedParam != param) {
-                params[i] = convertedParam;
+        }
+        beforeMethod(zoneId, method, others, trace);
+        for (int i = 0; i < bodies.length; i++) {
+            if (!bodies[i]) {
+                params[i] = others[i];
             }
         }
     }
+
+    private static boolean[] resolveBodyParameters(Method method) {
+        Parameter[] parameters = method.getParameters();
+        boolean[] bodies = new boolean[parameters.length];
+        boolean found = false;
+        for (int i = 0; i < parameters.length; i++) {
+            bodies[i] = AnnotatedElementUtils.hasAnnotation(parameters[i], RequestBody.class);
+            found |= bodies[i];
+        }
+        return found ? bodies : NO_BODIES;
+    }
+
+    /**
+     * 解析方法参数上@Time(format)指定的格式
+     */
+    private CompiledFormat[] resolveParameterFormats(Method method) {
+        Parameter[] parameters = method.getParameters();
+        CompiledFormat[] formats = new CompiledFormat[parameters.length];
+        boolean found = false;
+        for (int i = 0; i < parameters.length; i++) {
+            Time time = AnnotatedElementUtils.findMergedAnnotation(parameters[i], Time.class);
+            formats[i] = converter.getObjectProcessor().resolveFormat(time);
+            found |= formats[i] != null;
+        }
+        return found ? formats : NO_FORMATS;
+    }
 }
@@ -0,0 +1,146 @@
+package com.kronos.spring.aop;
+
+import com.kronos.spring.reactive.TimeZoneWebFilter;
+import com.kronos.spring.support.TimeZoneContextHolder;
+import com.kronos.spring.support.TimeZoneConverter;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.ProxyMethodInvocation;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+import java.lang.reflect.Method;
+import java.time.ZoneId;
+
+/**
+ * @author zhangyh
+ * @Date 2026/10/18 20:55
+ * @desc Mono/Flux返回值的转换，方法调用推迟到订阅时，从Reactor Context中取得时区后
+ * 转换参数并逐个元素转换结果，只在classpath中存在Reactor时才会加载。
+ * 方法体在每次订阅时执行（retry、repeat或者重复订阅同一个返回值都会再次调用），
+ * 参数只在第一次订阅时按当时的时区转换一次，之后的订阅沿用转换后的参数
+ */
+final class ReactiveConversionSupport {
+
+    private final KronosAnnotationInterceptor interceptor;
+    private final TimeZoneConverter           converter;
+
+    ReactiveConversionSupport(KronosAnnotationInterceptor interceptor, TimeZoneConverter converter) {
+        this.interceptor = interceptor;
+        this.converter = converter;
+    }
+
+    /**
+     * 方法声明的返回类型恰好是Mono或Flux时才能替换为延迟执行的版本
+     */
+    static boolean isReactiveType(Class<?> returnType) {
+        return returnType == Mono.class || returnType == Flux.class;
+    }
+
+    @SuppressWarnings("unchecked")
+    Object invoke(MethodInvocation invocation) {
+        // Servlet下返回Mono时没有Reactor Context，使用调用线程上的时区
+        ZoneId callerZoneId = TimeZoneContextHolder.getZoneId();
+        Method method = invocation.getMethod();
+        PreparedArguments arguments = new PreparedArguments(invocation);
+        if (method.getReturnType() == Mono.class) {
+            return Mono.deferContextual(context -> {
+                ZoneId zoneId = resolveZoneId(context, callerZoneId);
+                Mono<Object> result = (Mono<Object>) proceed(invocation, arguments.get(zoneId));
+                return zoneId == null ? result : result.map(value -> interceptor.convertElement(value, method, zoneId));
+            });
+        }
+        return Flux.deferContextual(context -> {
+            ZoneId zoneId = resolveZoneId(context, callerZoneId);
+            Flux<Object> result = (Flux<Object>) proceed(invocation, arguments.get(zoneId));
+            return zoneId == null ? result : result.map(value -> interceptor.convertElement(value, method, zoneId));
+        });
+    }
+
+    private ZoneId resolveZoneId(ContextView context, ZoneId callerZoneId) {
+        ZoneId zoneId = TimeZoneWebFilter.getZoneId(context);
+        if (zoneId == null) {
+            zoneId = callerZoneId;
+        }
+        return zoneId == null || converter.isBackendEquivalent(zoneId) ? null : zoneId;
+    }
+
+    /**
+     * 一次方法调用的参数。第一次订阅时从原始参数的副本转换，之后的订阅复用同一份结果，
+     * 避免重复订阅时把已经转换过的参数再转换一次
+     */
+    private final class PreparedArguments {
+
+        private final MethodInvocation invocation;
+        private final Object[]         original;
+
+        private Object[] prepared;
+
+        PreparedArguments(MethodInvocation invocation) {
+            this.invocation = invocation;
+            this.original = invocation.getArguments().clone();
+        }
+
+        synchronized Object[] get(ZoneId zoneId) {
+            if (prepared == null) {
+                Object[] args = original.clone();
+                if (zoneId != null) {
+                    prepareArguments(args, zoneId);
+                }
+                prepared = args;
+            }
+            return prepared;
+        }
+
+        /**
+         * Mono/Flux参数在元素到达时转换，其余参数立即转换
+         */
+        private void prepareArguments(Object[] args, ZoneId zoneId) {
+            Object[] others = null;
+            for (int i = 0; i < args.length; i++) {
+                if (args[i] instanceof Mono) {
+                    others = others == null ? args.clone() : others;
+                    others[i] = null;
+                    args[i] = ((Mono<?>) args[i]).map(value -> converter.toBackendTimeZone(value, zoneId));
+                } else if (args[i] instanceof Flux) {
+                    others = others == null ? args.clone() : others;
+                    others[i] = null;
+                    args[i] = ((Flux<?>) args[i]).map(value -> converter.toBackendTimeZone(value, zoneId));
+                }
+            }
+            if (others == null) {
+                interceptor.beforeMethod(zoneId, invocation.getMethod(), args);
+                return;
+            }
+            interceptor.beforeMethod(zoneId, invocation.getMethod(), others);
+            for (int i = 0; i < args.length; i++) {
+                if (!(args[i] instanceof Mono) && !(args[i] instanceof Flux)) {
+                    args[i] = others[i];
+                }
+            }
+        }
+    }
+
+    /**
+     * 用给定的参数继续调用链，方法抛出的异常转为错误信号，返回null时视为空序列。
+     * Spring AOP的调用可以克隆，每次订阅都从当前拦截器之后重新执行；其他实现只能写回参数后再次调用
+     */
+    private static Object proceed(MethodInvocation invocation, Object[] args) {
+        boolean mono = invocation.getMethod().getReturnType() == Mono.class;
+        try {
+            Object result;
+            if (invocation instanceof ProxyMethodInvocation) {
+                result = ((ProxyMethodInvocation) invocation).invocableClone(args).proceed();
+            } else {
+                System.arraycopy(args, 0, invocation.getArguments(), 0, args.length);
+                result = invocation.proceed();
+            }
+            if (result != null) {
+                return result;
+            }
+            return mono ? Mono.empty() : Flux.empty();
+        } catch (Throwable e) {
+            return mono ? Mono.error(e) : Flux.error(e);
+        }
+    }
+}
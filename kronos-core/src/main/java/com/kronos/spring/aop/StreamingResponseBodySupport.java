@@ -0,0 +1,42 @@
+package com.kronos.spring.aop;
+
+import com.kronos.spring.support.TimeZoneContext;
+import com.kronos.spring.support.TimeZoneContextHolder;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+
+/**
+ * @author zhangyh
+ * @Date 2026/10/18 21:10
+ * @desc StreamingResponseBody的包装，只在classpath中存在Spring MVC时才会加载
+ */
+final class StreamingResponseBodySupport {
+
+    private StreamingResponseBodySupport() {
+    }
+
+    static boolean isInstance(Object result) {
+        return result instanceof StreamingResponseBody;
+    }
+
+    /**
+     * StreamingResponseBody在异步线程上写出，写出期间绑定请求的时区
+     */
+    static StreamingResponseBody bindZone(Object result) {
+        StreamingResponseBody body = (StreamingResponseBody) result;
+        TimeZoneContext context = TimeZoneContextHolder.getContext();
+        return outputStream -> {
+            try {
+                TimeZoneContextHolder.callWith(context, () -> {
+                    body.writeTo(outputStream);
+                    return null;
+                });
+            } catch (IOException | RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+}
@@ -0,0 +1,104 @@
+package com.kronos.spring.aop;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * @author zhangyh
+ * @Date 2026/10/18 20:05
+ * @desc 流式返回值的包装，元素在写出响应、被消费时才逐个转换，不会把整个结果集物化到内存中
+ */
+final class StreamingResultWrapper {
+
+    // WebFlux应用中没有Spring MVC，StreamingResponseBody相关的类不能加载
+    private static final boolean STREAMING_RESPONSE_BODY_PRESENT = ClassUtils.isPresent(
+            "org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody",
+            StreamingResultWrapper.class.getClassLoader());
+
+    // 元素按方法返回类型的元素类型转换，同样记录指标和JFR事件
+    private final KronosAnnotationInterceptor interceptor;
+
+    StreamingResultWrapper(KronosAnnotationInterceptor interceptor) {
+        this.interceptor = interceptor;
+    }
+
+    /**
+     * 是否为需要延迟转换的流式结果，普通集合已经在内存中，不属于流式结果
+     */
+    static boolean isStreaming(Object result) {
+        if (result instanceof ResponseEntity) {
+            return isStreaming(((ResponseEntity<?>) result).getBody());
+        }
+        return result instanceof Stream || result instanceof Iterator || isStreamingResponseBody(result)
+                || (result instanceof Iterable && !(result instanceof Collection));
+    }
+
+    /**
+     * 包装流式结果，包装后的类型与方法声明的返回类型不兼容时返回null，交给常规流程处理
+     * @param convertElements 为false时只在写出期间绑定时区（Jackson引擎），不转换元素
+     */
+    Object wrap(Object result, Method method, ZoneId zoneId, boolean convertElements) {
+        return wrap(result, method, method.getReturnType(), zoneId, convertElements);
+    }
+
+    private Object wrap(Object result, Method method, Class<?> declaredType, ZoneId zoneId, boolean convertElements) {
+        if (result instanceof ResponseEntity) {
+            // 子类无法按原类型重建，必须在包装响应体之前判断，Stream.map之后原来的流已经不能再消费
+            if (result.getClass() != ResponseEntity.class) {
+                return null;
+            }
+            ResponseEntity<?> response = (ResponseEntity<?>) result;
+            Object body = wrap(response.getBody(), method, Object.class, zoneId, convertElements);
+            if (body == null) {
+                return null;
+            }
+            return new ResponseEntity<>(body, response.getHeaders(), response.getStatusCode());
+        }
+        if (isStreamingResponseBody(result)) {
+            return StreamingResponseBodySupport.bindZone(result);
+        }
+        if (!convertElements) {
+            return null;
+        }
+        if (result instanceof Stream) {
+            return ((Stream<?>) result).map(item -> interceptor.convertElement(item, method, zoneId));
+        }
+        if (result instanceof Iterator && declaredType.isAssignableFrom(Iterator.class)) {
+            return convertingIterator((Iterator<?>) result, method, zoneId);
+        }
+        if (result instanceof Iterable && declaredType.isAssignableFrom(Iterable.class)) {
+            Iterable<?> iterable = (Iterable<?>) result;
+            return (Iterable<Object>) () -> convertingIterator(iterable.iterator(), method, zoneId);
+        }
+        return null;
+    }
+
+    private Iterator<Object> convertingIterator(Iterator<?> iterator, Method method, ZoneId zoneId) {
+        return new Iterator<Object>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public Object next() {
+                return interceptor.convertElement(iterator.next(), method, zoneId);
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+            }
+        };
+    }
+
+    private static boolean isStreamingResponseBody(Object result) {
+        return STREAMING_RESPONSE_BODY_PRESENT && StreamingResponseBodySupport.isInstance(result);
+    }
+}
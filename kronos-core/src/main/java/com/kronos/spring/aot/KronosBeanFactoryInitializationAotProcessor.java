@@ -0,0 +1,74 @@
+package com.kronos.spring.aot;
+
+import com.kronos.spring.annotation.ConvertTime;
+import com.kronos.spring.support.ConvertedTypeCollector;
+import com.kronos.spring.support.KronosAccessor;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * @author zhangyh
+ * @Date 2026/10/19 11:20
+ * @desc AOT构建时从@ConvertTime的bean出发，沿方法参数、返回值和字段的类型（含泛型参数）找到所有可能被转换的类，
+ * 注册字段、构造器和公有方法的反射提示，以及kronos-processor生成的访问器
+ */
+public class KronosBeanFactoryInitializationAotProcessor implements BeanFactoryInitializationAotProcessor {
+
+    @Override
+    public BeanFactoryInitializationAotContribution processAheadOfTime(ConfigurableListableBeanFactory beanFactory) {
+        Set<Class<?>> types = new LinkedHashSet<>();
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            Class<?> beanType = beanFactory.getType(beanName, false);
+            if (beanType != null) {
+                collectConvertedTypes(ClassUtils.getUserClass(beanType), types);
+            }
+        }
+        if (types.isEmpty()) {
+            return null;
+        }
+        ClassLoader classLoader = beanFactory.getBeanClassLoader();
+        return (generationContext, code) -> registerHints(generationContext.getRuntimeHints(), types, classLoader);
+    }
+
+    /**
+     * 收集@ConvertTime方法的参数和返回值可达的类
+     */
+    static void collectConvertedTypes(Class<?> beanType, Set<Class<?>> types) {
+        boolean typeLevel = AnnotatedElementUtils.hasAnnotation(beanType, ConvertTime.class);
+        ReflectionUtils.doWithMethods(beanType, method -> {
+            if (!typeLevel && !AnnotatedElementUtils.hasAnnotation(method, ConvertTime.class)) {
+                return;
+            }
+            ConvertedTypeCollector.collectMethodTypes(method, beanType, types);
+        }, KronosBeanFactoryInitializationAotProcessor::isCandidateMethod);
+    }
+
+    static void registerHints(RuntimeHints hints, Set<Class<?>> types, ClassLoader classLoader) {
+        for (Class<?> type : types) {
+            hints.reflection().registerType(type, MemberCategory.DECLARED_FIELDS,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+            String accessorName = type.getName() + KronosAccessor.SUFFIX;
+            if (ClassUtils.isPresent(accessorName, classLoader)) {
+                hints.reflection().registerType(TypeReference.of(accessorName),
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+            }
+        }
+    }
+
+    private static boolean isCandidateMethod(Method method) {
+        return !Modifier.isStatic(method.getModifiers()) && !Modifier.isPrivate(method.getModifiers())
+                && method.getDeclaringClass() != Object.class;
+    }
+}
@@ -0,0 +1,21 @@
+package com.kronos.spring.aot;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * @author zhangyh
+ * @Date 2026/10/19 11:20
+ * @desc 框架自身通过反射访问的成员：ScopedValue的句柄
+ */
+public class KronosRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        hints.reflection().registerTypeIfPresent(classLoader, "java.lang.ScopedValue",
+                MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.reflection().registerTypeIfPresent(classLoader, "java.lang.ScopedValue$Carrier",
+                MemberCategory.INVOKE_PUBLIC_METHODS);
+    }
+}
@@ -0,0 +1,24 @@
+package com.kronos.spring.config;
+
+/**
+ * @author zhangyh
+ * @Date 2026/10/19 21:10
+ * @desc 单次转换超出遍历预算（深度、节点数、耗时）时的处理方式
+ */
+public enum BudgetExceededPolicy {
+
+    /**
+     * 记录一次警告日志，继续转换
+     */
+    LOG,
+
+    /**
+     * 记录一次警告日志，停止转换，已经转换的值保留，其余的值原样返回
+     */
+    STOP,
+
+    /**
+     * 抛出ConversionBudgetExceededException
+     */
+    FAIL
+}
@@ -0,0 +1,20 @@
+package com.kronos.spring.config;
+
+/**
+ * @author zhangyh
+ * @Date 2026/10/18 17:30
+ * @desc 时区转换引擎
+ */
+public enum ConversionEngine {
+
+    /**
+     * 方法拦截器在调用前后遍历参数和返回值，原地修改对象
+     */
+    INTERCEPTOR,
+
+    /**
+     * 请求体和响应体在Jackson读写时逐个值转换，不遍历也不修改对象，
+     * 非请求体参数（例如@RequestParam）仍由方法拦截器转换
+     */
+    JACKSON
+}
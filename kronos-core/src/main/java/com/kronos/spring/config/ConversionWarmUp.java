@@ -0,0 +1,195 @@
+package com.kronos.spring.config;
+
+import com.kronos.spring.aop.KronosAnnotationAdvisor;
+import com.kronos.spring.aop.KronosAnnotationInterceptor;
+import com.kronos.spring.support.ConvertedTypeCollector;
+import com.kronos.spring.support.ObjectProcessor;
+import com.kronos.spring.support.TimeZoneConverter;
+import com.kronos.spring.support.ZoneIdResolver;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.MethodMatcher;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.AdvisedSupport;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.cglib.proxy.Factory;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author zhangyh
+ * @Date 2026/10/19 13:30
+ * @desc 所有单例创建完成后、Web服务开始接收请求之前，从@ConvertTime代理的方法签名出发，
+ * 预先解析参数格式、计算代理的拦截器链并编译所有可达类的转换计划，避免发布和扩容后的第一批请求承担这部分开销
+ */
+@Slf4j
+public class ConversionWarmUp implements SmartInitializingSingleton {
+
+    private final ConfigurableListableBeanFactory beanFactory;
+    private final TimeZoneConverter               converter;
+    private final KronosProperty                  properties;
+
+    private volatile int  warmedMethods;
+    private volatile int  warmedTypes;
+    private volatile long elapsedMillis;
+
+    public ConversionWarmUp(ConfigurableListableBeanFactory beanFactory, TimeZoneConverter converter,
+                            KronosProperty properties) {
+        this.beanFactory = beanFactory;
+        this.converter = converter;
+        this.properties = properties;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        long start = System.nanoTime();
+        Set<Class<?>> types = new LinkedHashSet<>();
+        int methods = 0;
+        // 只处理已经创建的单例，懒加载的bean在第一次使用时再编译
+        for (String beanName : beanFactory.getSingletonNames()) {
+            Object bean = beanFactory.getSingleton(beanName);
+            if (!(bean instanceof Advised)) {
+                continue;
+            }
+            KronosAnnotationAdvisor advisor = findAdvisor((Advised) bean);
+            if (advisor != null) {
+                methods += warmUpMethods((Advised) bean, findAdvisedSupport(bean),
+                        AopProxyUtils.ultimateTargetClass(bean), advisor, types);
+            }
+        }
+
+        ObjectProcessor processor = converter.getObjectProcessor();
+        // 类型之间的计划互不依赖，可以并行编译
+        (properties.isWarmUpParallel() ? types.parallelStream() : types.stream())
+                .forEach(type -> warmUpType(processor, type));
+        warmUpZonePairs();
+
+        this.warmedMethods = methods;
+        this.warmedTypes = types.size();
+        this.elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        log.info("kronos预热完成: {}个@ConvertTime方法, {}个类型, 耗时{}ms", methods, types.size(), elapsedMillis);
+    }
+
+    private static KronosAnnotationAdvisor findAdvisor(Advised advised) {
+        for (Advisor advisor : advised.getAdvisors()) {
+            if (advisor instanceof KronosAnnotationAdvisor) {
+                return (KronosAnnotationAdvisor) advisor;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 代理按方法缓存拦截器链，第一次调用时才计算。Advised接口不提供这个入口，持有缓存的AdvisedSupport
+     * 在JDK代理的InvocationHandler或CGLIB代理的回调中，取不到时返回null，只是不预热拦截器链
+     */
+    private static AdvisedSupport findAdvisedSupport(Object proxy) {
+        List<Object> holders = new ArrayList<>();
+        if (Proxy.isProxyClass(proxy.getClass())) {
+            holders.add(Proxy.getInvocationHandler(proxy));
+        } else if (proxy instanceof Factory) {
+            Collections.addAll(holders, ((Factory) proxy).getCallbacks());
+        }
+        try {
+            for (Object holder : holders) {
+                Field field = holder != null
+                        ? ReflectionUtils.findField(holder.getClass(), null, AdvisedSupport.class) : null;
+                if (field != null) {
+                    ReflectionUtils.makeAccessible(field);
+                    return (AdvisedSupport) ReflectionUtils.getField(field, holder);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.debug("无法取得代理的配置，不预热拦截器链: " + proxy.getClass().getName(), e);
+        }
+        return null;
+    }
+
+    /**
+     * 用切面自己的切点挑选方法，JDK代理调用时使用接口上的方法，因此接口方法也需要预热
+     */
+    private static int warmUpMethods(Advised advised, AdvisedSupport support, Class<?> targetClass,
+                                     KronosAnnotationAdvisor advisor, Set<Class<?>> types) {
+        if (!advisor.getPointcut().getClassFilter().matches(targetClass)) {
+            return 0;
+        }
+        MethodMatcher matcher = advisor.getPointcut().getMethodMatcher();
+        KronosAnnotationInterceptor interceptor = advisor.getAdvice() instanceof KronosAnnotationInterceptor
+                ? (KronosAnnotationInterceptor) advisor.getAdvice() : null;
+        Set<Method> candidates = new LinkedHashSet<>();
+        for (Method method : ReflectionUtils.getUniqueDeclaredMethods(targetClass, ReflectionUtils.USER_DECLARED_METHODS)) {
+            candidates.add(method);
+        }
+        for (Class<?> proxiedInterface : advised.getProxiedInterfaces()) {
+            for (Method method : proxiedInterface.getMethods()) {
+                candidates.add(method);
+            }
+        }
+        int count = 0;
+        for (Method method : candidates) {
+            if (!matcher.matches(method, targetClass)) {
+                continue;
+            }
+            if (interceptor != null) {
+                interceptor.warmUp(method);
+            }
+            if (support != null) {
+                // 缓存的键按Method.equals比较，接口方法和实现类方法分别对应JDK代理和CGLIB代理的调用
+                support.getInterceptorsAndDynamicInterceptionAdvice(method, targetClass);
+            }
+            ConvertedTypeCollector.collectMethodTypes(method, targetClass, types);
+            count++;
+        }
+        return count;
+    }
+
+    private static void warmUpType(ObjectProcessor processor, Class<?> type) {
+        try {
+            processor.getPlan(type);
+        } catch (RuntimeException e) {
+            // 预热失败不影响启动，第一次转换时会再次尝试
+            log.debug("预热转换计划失败: " + type.getName(), e);
+        }
+    }
+
+    /**
+     * 默认客户端时区两个方向的时区对
+     */
+    private void warmUpZonePairs() {
+        try {
+            ZoneId clientZoneId = ZoneIdResolver.parse(properties.getDefaultClientZoneId());
+            if (converter.isBackendEquivalent(clientZoneId)) {
+                return;
+            }
+            converter.getZonePair(clientZoneId, converter.getBackendZoneId());
+            converter.getZonePair(converter.getBackendZoneId(), clientZoneId);
+        } catch (RuntimeException e) {
+            // 与预热转换计划一样，失败不影响启动
+            log.debug("预热默认客户端时区失败: " + properties.getDefaultClientZoneId(), e);
+        }
+    }
+
+    public int getWarmedMethods() {
+        return warmedMethods;
+    }
+
+    public int getWarmedTypes() {
+        return warmedTypes;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+}
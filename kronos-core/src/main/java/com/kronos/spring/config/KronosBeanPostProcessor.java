@@ -15,14 +15,20 @@ import org.springframework.beans.factory.BeanFactory;
 public class KronosBeanPostProcessor extends AbstractBeanFactoryAwareAdvisingPostProcessor {
 
     private final TimeZoneConverter timeZoneConverter;
+    private final ConversionEngine  engine;
 
     public KronosBeanPostProcessor(TimeZoneConverter timeZoneConverter) {
+        this(timeZoneConverter, ConversionEngine.INTERCEPTOR);
+    }
+
+    public KronosBeanPostProcessor(TimeZoneConverter timeZoneConverter, ConversionEngine engine) {
         this.timeZoneConverter = timeZoneConverter;
+        this.engine = engine;
     }
 
     @Override
     public void setBeanFactory(BeanFactory beanFactory) {
-        KronosAnnotationInterceptor kronosAnnotationInterceptor = new KronosAnnotationInterceptor(this.timeZoneConverter);
+        KronosAnnotationInterceptor kronosAnnotationInterceptor = new KronosAnnotationInterceptor(this.timeZoneConverter, this.engine);
         this.advisor = new KronosAnnotationAdvisor(kronosAnnotationInterceptor, ConvertTime.class);
     }
 }
@@ -1,14 +1,31 @@
 package com.kronos.spring.config;
 
+import com.kronos.spring.aot.KronosRuntimeHints;
+import com.kronos.spring.jackson.KronosJacksonModule;
+import com.kronos.spring.metrics.KronosEndpoint;
+import com.kronos.spring.metrics.MicrometerConversionMetrics;
+import com.kronos.spring.reactive.TimeZoneWebFilter;
+import com.kronos.spring.support.TimeZoneContextHolder;
+import com.kronos.spring.support.TimeZoneContextStrategy;
 import com.kronos.spring.support.TimeZoneInterceptor;
+import com.kronos.spring.support.TimeZoneScopeFilter;
+import com.kronos.spring.support.TimeZoneTaskDecorator;
 import com.kronos.spring.support.TimeZoneConverter;
 import com.kronos.spring.support.TypeConverter;
+import com.kronos.spring.support.ZoneIdResolver;
 import org.springframework.beans.factory.config.BeanDefinition;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.context.annotation.Role;
+import org.springframework.core.task.TaskDecorator;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -22,18 +39,41 @@ import java.util.List;
 @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
 @Configuration
 @ConditionalOnProperty(prefix = KronosProperty.PREFIX, name = "enabled", havingValue = "true", matchIfMissing = true)
-public class KronosConfiguration implements WebMvcConfigurer {
+@ImportRuntimeHints(KronosRuntimeHints.class)
+public class KronosConfiguration {
 
     @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
     @Bean
     @ConditionalOnMissingBean
     public TimeZoneConverter timeZoneConverter(List<TypeConverter<?>> converters) {
+        timeZoneContextStrategy();
         return new TimeZoneConverter(dynamicDataSourceProperties(), converters);
     }
 
+    /**
+     * 按配置切换TimeZoneContextHolder的存放策略，转换器创建之前完成
+     */
     @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
     @Bean
-    public static KronosProperty dynamicDataSourceProperties() {
+    public TimeZoneContextStrategy timeZoneContextStrategy() {
+        TimeZoneContextStrategy strategy = TimeZoneContextStrategy.of(dynamicDataSourceProperties().getContextMode());
+        TimeZoneContextHolder.setStrategy(strategy);
+        return strategy;
+    }
+
+    /**
+     * Spring Boot的applicationTaskExecutor会使用唯一的TaskDecorator，@Async方法因此能读到调用方的时区
+     */
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    @Bean
+    @ConditionalOnMissingBean(TaskDecorator.class)
+    public TimeZoneTaskDecorator timeZoneTaskDecorator() {
+        return new TimeZoneTaskDecorator();
+    }
+
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    @Bean
+    public KronosProperty dynamicDataSourceProperties() {
         return new KronosProperty();
     }
 
@@ -41,18 +81,111 @@ public class KronosConfiguration implements WebMvcConfigurer {
     @Bean
     @ConditionalOnMissingBean
     public KronosBeanPostProcessor kronosBeanPostProcessor(List<TypeConverter<?>> converters) {
-        return new KronosBeanPostProcessor(timeZoneConverter(converters));
+        return new KronosBeanPostProcessor(timeZoneConverter(converters), dynamicDataSourceProperties().getEngine());
+    }
+
+    /**
+     * 启动时预热转换计划，第一次请求不再编译
+     */
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    @Bean
+    @ConditionalOnProperty(prefix = KronosProperty.PREFIX, name = "warm-up", havingValue = "true", matchIfMissing = true)
+    public ConversionWarmUp conversionWarmUp(ConfigurableListableBeanFactory beanFactory,
+                                             List<TypeConverter<?>> converters) {
+        return new ConversionWarmUp(beanFactory, timeZoneConverter(converters), dynamicDataSourceProperties());
+    }
+
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = KronosProperty.PREFIX, name = "engine", havingValue = "jackson")
+    public KronosJacksonModule kronosJacksonModule(List<TypeConverter<?>> converters) {
+        return new KronosJacksonModule(timeZoneConverter(converters));
     }
 
     @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
     @Bean
-    public TimeZoneInterceptor timeZoneInterceptor() {
-        return new TimeZoneInterceptor(dynamicDataSourceProperties());
+    @ConditionalOnMissingBean
+    public ZoneIdResolver zoneIdResolver() {
+        return new ZoneIdResolver(dynamicDataSourceProperties().getZoneIdCacheSize());
+    }
+
+    /**
+     * 引入Actuator时注册转换指标和kronos端点，指标在MeterRegistry绑定后才开启
+     */
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    @Configuration
+    @ConditionalOnClass({MeterRegistry.class, Endpoint.class})
+    @ConditionalOnProperty(prefix = KronosProperty.PREFIX, name = "metrics", havingValue = "true", matchIfMissing = true)
+    static class KronosMetricsConfiguration {
+
+        @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+        @Bean
+        @ConditionalOnMissingBean
+        public MicrometerConversionMetrics kronosConversionMetrics(TimeZoneConverter timeZoneConverter) {
+            return new MicrometerConversionMetrics(timeZoneConverter);
+        }
+
+        @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+        @Bean
+        @ConditionalOnMissingBean
+        public KronosEndpoint kronosEndpoint(TimeZoneConverter timeZoneConverter,
+                                             MicrometerConversionMetrics kronosConversionMetrics) {
+            return new KronosEndpoint(timeZoneConverter, kronosConversionMetrics);
+        }
+    }
+
+    /**
+     * Servlet应用通过HandlerInterceptor把时区放入ThreadLocal
+     */
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    @Configuration
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    static class KronosServletConfiguration implements WebMvcConfigurer {
+
+        private final KronosProperty properties;
+        private final ZoneIdResolver zoneIdResolver;
+
+        KronosServletConfiguration(KronosProperty properties, ZoneIdResolver zoneIdResolver) {
+            this.properties = properties;
+            this.zoneIdResolver = zoneIdResolver;
+        }
+
+        @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+        @Bean
+        public TimeZoneInterceptor timeZoneInterceptor() {
+            return new TimeZoneInterceptor(properties, zoneIdResolver);
+        }
+
+        /**
+         * 使用ScopedValue时由过滤器为每个请求绑定作用域
+         */
+        @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+        @Bean
+        @ConditionalOnProperty(prefix = KronosProperty.PREFIX, name = "context-mode", havingValue = "scoped_value")
+        public TimeZoneScopeFilter timeZoneScopeFilter() {
+            return new TimeZoneScopeFilter();
+        }
+
+        @Override
+        public void addInterceptors(InterceptorRegistry registry) {
+            registry.addInterceptor(timeZoneInterceptor());
+        }
     }
 
+    /**
+     * WebFlux应用通过WebFilter把时区放入Reactor Context
+     */
     @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
-    @Override
-    public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(timeZoneInterceptor());
+    @Configuration
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    static class KronosReactiveConfiguration {
+
+        @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+        @Bean
+        @ConditionalOnMissingBean
+        public TimeZoneWebFilter timeZoneWebFilter(KronosProperty properties, ZoneIdResolver zoneIdResolver) {
+            return new TimeZoneWebFilter(properties, zoneIdResolver);
+        }
     }
 }
@@ -37,4 +37,75 @@ public class KronosProperty {
      * 时间格式，用于字符串时间的解析和格式化
      */
     private String defaultDateTimeFormat = "yyyy-MM-dd HH:mm:ss";
+
+    /**
+     * 循环引用检测的启用深度，遍历深度超过该值后才分配基于引用的哈希集合，浅层只按引用逐个比较路径
+     */
+    private int cycleTrackingDepth = 16;
+
+    /**
+     * 请求头时区解析结果的最大缓存数量
+     */
+    private int zoneIdCacheSize = 1024;
+
+    /**
+     * 转换引擎，JACKSON表示在序列化和反序列化时转换请求体与响应体
+     */
+    private ConversionEngine engine = ConversionEngine.INTERCEPTOR;
+
+    /**
+     * 并行转换的集合大小阈值，RandomAccess的List和数组达到该大小时分块并行转换，小于等于0表示关闭
+     */
+    private int parallelThreshold = 0;
+
+    /**
+     * 并行转换线程池的并行度，小于等于0时使用CPU核数
+     */
+    private int parallelism = 0;
+
+    /**
+     * 请求时区的存放方式，SCOPED_VALUE需要Java 21+
+     */
+    private TimeZoneContextMode contextMode = TimeZoneContextMode.THREAD_LOCAL;
+
+    /**
+     * 是否在启动时预先编译@ConvertTime方法可达类的转换计划
+     */
+    private boolean warmUp = true;
+
+    /**
+     * 预热时是否并行编译转换计划，类型较多时可以缩短启动时间
+     */
+    private boolean warmUpParallel = false;
+
+    /**
+     * 存在MeterRegistry时是否记录转换耗时、遍历计数和缓存命中率，关闭后转换器不做任何计时和计数
+     */
+    private boolean metrics = true;
+
+    /**
+     * 严格模式，字符串只在字段或参数标注@Time时转换，时间类型只在声明类型（含泛型参数）为时间类型时转换，
+     * 声明为Object或按运行时类型分派到的值原样返回，转换计划中只保留这些字段
+     */
+    private boolean strict = false;
+
+    /**
+     * 单次转换最多进入的对象层数（自定义对象、集合、Map和数组），小于等于0表示不限制
+     */
+    private int maxDepth = 0;
+
+    /**
+     * 单次转换最多遍历的节点数（自定义对象、集合、Map和数组），小于等于0表示不限制
+     */
+    private int maxNodes = 0;
+
+    /**
+     * 单次转换的最长耗时（毫秒），进入每个节点时检查，小于等于0表示不限制
+     */
+    private long maxTimeMillis = 0;
+
+    /**
+     * 超出maxDepth、maxNodes或maxTimeMillis时的处理方式
+     */
+    private BudgetExceededPolicy budgetExceededPolicy = BudgetExceededPolicy.LOG;
 }
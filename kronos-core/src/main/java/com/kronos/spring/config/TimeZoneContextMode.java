@@ -0,0 +1,20 @@
+package com.kronos.spring.config;
+
+/**
+ * @author zhangyh
+ * @Date 2026/10/18 23:10
+ * @desc 请求时区上下文的存放方式
+ */
+public enum TimeZoneContextMode {
+
+    /**
+     * 存放在ThreadLocal中，由TimeZoneInterceptor在请求开始时设置、结束时清除
+     */
+    THREAD_LOCAL,
+
+    /**
+     * 存放在Java 21+的ScopedValue中，由TimeZoneScopeFilter为每个请求绑定作用域，
+     * 不在线程上留下可变状态，适合大量虚拟线程的场景
+     */
+    SCOPED_VALUE
+}
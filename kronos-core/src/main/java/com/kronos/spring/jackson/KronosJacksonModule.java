@@ -0,0 +1,62 @@
+package com.kronos.spring.jackson;
+
+import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.kronos.spring.support.TimeZoneConverter;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+
+/**
+ * @author zhangyh
+ * @Date 2026/10/18 17:40
+ * @desc Jackson转换引擎，在写出和读取时间值时直接换算时区，不需要额外遍历和修改对象图，
+ * 时区取自TimeZoneContextHolder.getSerializationZoneId()，没有设置时原样读写
+ */
+public class KronosJacksonModule extends SimpleModule {
+
+    private final TimeZoneConverter converter;
+
+    public KronosJacksonModule(TimeZoneConverter converter) {
+        super("KronosJacksonModule", Version.unknownVersion());
+        this.converter = converter;
+    }
+
+    @Override
+    public void setupModule(SetupContext context) {
+        super.setupModule(context);
+        // 包装最终选定的序列化器，@JsonFormat等配置仍然由原序列化器处理
+        context.addBeanSerializerModifier(new BeanSerializerModifier() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public JsonSerializer<?> modifySerializer(SerializationConfig config, BeanDescription beanDesc,
+                                                      JsonSerializer<?> serializer) {
+                if (!isTimeType(beanDesc.getBeanClass()) || serializer instanceof ZoneShiftingSerializer) {
+                    return serializer;
+                }
+                return new ZoneShiftingSerializer(converter, (JsonSerializer<Object>) serializer, null);
+            }
+        });
+        context.addBeanDeserializerModifier(new BeanDeserializerModifier() {
+            @Override
+            public JsonDeserializer<?> modifyDeserializer(DeserializationConfig config, BeanDescription beanDesc,
+                                                          JsonDeserializer<?> deserializer) {
+                if (!isTimeType(beanDesc.getBeanClass()) || deserializer instanceof ZoneShiftingDeserializer) {
+                    return deserializer;
+                }
+                return new ZoneShiftingDeserializer(converter, deserializer, null);
+            }
+        });
+        // 标注了@Time的字符串字段
+        context.insertAnnotationIntrospector(new TimeAnnotationIntrospector(converter));
+    }
+
+    private static boolean isTimeType(Class<?> type) {
+        // Date表示时刻，转换器原样返回，不需要包装
+        return type == LocalDateTime.class || type == ZonedDateTime.class || type == OffsetDateTime.class;
+    }
+}
@@ -0,0 +1,55 @@
+package com.kronos.spring.jackson;
+
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMethod;
+import com.fasterxml.jackson.databind.introspect.NopAnnotationIntrospector;
+import com.fasterxml.jackson.databind.ser.std.StringSerializer;
+import com.kronos.spring.annotation.Time;
+import com.kronos.spring.support.TimeZoneConverter;
+
+/**
+ * @author zhangyh
+ * @Date 2026/10/18 18:15
+ * @desc 为标注了@Time的字符串属性指定转换时区的序列化器和反序列化器，其他属性不受影响
+ */
+class TimeAnnotationIntrospector extends NopAnnotationIntrospector {
+
+    private final TimeZoneConverter converter;
+
+    TimeAnnotationIntrospector(TimeZoneConverter converter) {
+        this.converter = converter;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object findSerializer(Annotated annotated) {
+        Time time = _findAnnotation(annotated, Time.class);
+        if (time == null || annotated.getRawType() != String.class) {
+            return null;
+        }
+        return new ZoneShiftingSerializer(converter, (JsonSerializer<Object>) (JsonSerializer<?>) new StringSerializer(),
+                converter.getObjectProcessor().resolveFormat(time));
+    }
+
+    @Override
+    public Object findDeserializer(Annotated annotated) {
+        Time time = _findAnnotation(annotated, Time.class);
+        if (time == null || valueType(annotated) != String.class) {
+            return null;
+        }
+        return new ZoneShiftingDeserializer(converter, StringDeserializer.instance,
+                converter.getObjectProcessor().resolveFormat(time));
+    }
+
+    /**
+     * setter的值类型是参数类型
+     */
+    private static Class<?> valueType(Annotated annotated) {
+        if (annotated instanceof AnnotatedMethod && ((AnnotatedMethod) annotated).getParameterCount() == 1) {
+            return ((AnnotatedMethod) annotated).getRawParameterType(0);
+        }
+        return annotated.getRawType();
+    }
+}
@@ -0,0 +1,67 @@
+package com.kronos.spring.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.kronos.spring.support.TimeZoneContextHolder;
+import com.kronos.spring.support.TimeZoneConverter;
+import com.kronos.spring.support.format.CompiledFormat;
+
+import java.io.IOException;
+import java.time.ZoneId;
+
+/**
+ * @author zhangyh
+ * @Date 2026/10/18 18:05
+ * @desc 原反序列化器读出值后，把值从客户端时区换算到后端时区
+ */
+class ZoneShiftingDeserializer extends StdDeserializer<Object> implements ContextualDeserializer, ResolvableDeserializer {
+
+    private final TimeZoneConverter   converter;
+    private final JsonDeserializer<?> delegate;
+    private final CompiledFormat      format;
+
+    ZoneShiftingDeserializer(TimeZoneConverter converter, JsonDeserializer<?> delegate, CompiledFormat format) {
+        super(delegate.handledType());
+        this.converter = converter;
+        this.delegate = delegate;
+        this.format = format;
+    }
+
+    @Override
+    public Object deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        Object value = delegate.deserialize(p, ctxt);
+        ZoneId zoneId = TimeZoneContextHolder.getSerializationZoneId();
+        if (zoneId == null || converter.isBackendEquivalent(zoneId)) {
+            return value;
+        }
+        return converter.convertValue(value, zoneId, converter.getBackendZoneId(), format);
+    }
+
+    @Override
+    public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property)
+            throws JsonMappingException {
+        if (!(delegate instanceof ContextualDeserializer)) {
+            return this;
+        }
+        JsonDeserializer<?> contextual = ((ContextualDeserializer) delegate).createContextual(ctxt, property);
+        return contextual == delegate ? this : new ZoneShiftingDeserializer(converter, contextual, format);
+    }
+
+    @Override
+    public void resolve(DeserializationContext ctxt) throws JsonMappingException {
+        if (delegate instanceof ResolvableDeserializer) {
+            ((ResolvableDeserializer) delegate).resolve(ctxt);
+        }
+    }
+
+    @Override
+    public Object getNullValue(DeserializationContext ctxt) throws JsonMappingException {
+        return delegate.getNullValue(ctxt);
+    }
+}
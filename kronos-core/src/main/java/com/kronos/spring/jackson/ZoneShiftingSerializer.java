@@ -0,0 +1,67 @@
+package com.kronos.spring.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.kronos.spring.support.TimeZoneContextHolder;
+import com.kronos.spring.support.TimeZoneConverter;
+import com.kronos.spring.support.format.CompiledFormat;
+
+import java.io.IOException;
+import java.time.ZoneId;
+
+/**
+ * @author zhangyh
+ * @Date 2026/10/18 17:52
+ * @desc 写出前把值从后端时区换算到客户端时区，再交给原序列化器
+ */
+class ZoneShiftingSerializer extends StdSerializer<Object> implements ContextualSerializer, ResolvableSerializer {
+
+    private final TimeZoneConverter      converter;
+    private final JsonSerializer<Object> delegate;
+    private final CompiledFormat         format;
+
+    ZoneShiftingSerializer(TimeZoneConverter converter, JsonSerializer<Object> delegate, CompiledFormat format) {
+        super(Object.class);
+        this.converter = converter;
+        this.delegate = delegate;
+        this.format = format;
+    }
+
+    @Override
+    public void serialize(Object value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        ZoneId zoneId = TimeZoneContextHolder.getSerializationZoneId();
+        if (zoneId != null && !converter.isBackendEquivalent(zoneId)) {
+            value = converter.convertValue(value, converter.getBackendZoneId(), zoneId, format);
+        }
+        delegate.serialize(value, gen, provider);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+            throws JsonMappingException {
+        if (!(delegate instanceof ContextualSerializer)) {
+            return this;
+        }
+        JsonSerializer<?> contextual = ((ContextualSerializer) delegate).createContextual(provider, property);
+        return contextual == delegate ? this : new ZoneShiftingSerializer(converter, (JsonSerializer<Object>) contextual, format);
+    }
+
+    @Override
+    public void resolve(SerializerProvider provider) throws JsonMappingException {
+        if (delegate instanceof ResolvableSerializer) {
+            ((ResolvableSerializer) delegate).resolve(provider);
+        }
+    }
+
+    @Override
+    public boolean isEmpty(SerializerProvider provider, Object value) {
+        return delegate.isEmpty(provider, value);
+    }
+}
@@ -0,0 +1,49 @@
+package com.kronos.spring.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * @author zhangyh
+ * @Date 2026/10/19 20:10
+ * @desc 一次@ConvertTime方法调用的转换，事件时长覆盖整个调用（包括方法本身），conversionTime只统计参数和返回值的转换，
+ * 没有JFR录制或事件未开启时拦截器不创建计数对象
+ */
+@Name(ConversionEvent.NAME)
+@Label("Kronos Conversion")
+@Category("Kronos")
+@Description("@ConvertTime方法参数和返回值的时区转换")
+@StackTrace(false)
+public class ConversionEvent extends Event {
+
+    public static final String NAME = "com.kronos.Conversion";
+
+    @Label("Method")
+    public String method;
+
+    @Label("Client Zone")
+    public String clientZone;
+
+    @Label("Nodes Visited")
+    public int nodesVisited;
+
+    @Label("Fields Converted")
+    public int fieldsConverted;
+
+    @Label("Strings Parsed")
+    public int stringsParsed;
+
+    @Label("Strings Rejected")
+    public int stringsRejected;
+
+    @Label("Conversion Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long conversionTime;
+
+    @Label("Cycle Tracking")
+    @Description("遍历深度超过cycleTrackingDepth，启用了基于哈希的循环检测")
+    public boolean cycleTracking;
+
+    @Label("Budget Exceeded")
+    @Description("超出的遍历预算（maxDepth、maxNodes或maxTime），没有超出时为空")
+    public String budgetExceeded;
+}
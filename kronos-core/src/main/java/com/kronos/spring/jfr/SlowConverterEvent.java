@@ -0,0 +1,28 @@
+package com.kronos.spring.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * @author zhangyh
+ * @Date 2026/10/19 20:15
+ * @desc 单次TypeConverter.convert调用超过阈值，默认关闭，需要时在录制配置（.jfc）中开启com.kronos.SlowConverter并调整threshold
+ */
+@Name(SlowConverterEvent.NAME)
+@Label("Kronos Slow Converter")
+@Category("Kronos")
+@Description("单个值的转换耗时超过阈值")
+@Enabled(false)
+@Threshold("1 ms")
+public class SlowConverterEvent extends Event {
+
+    public static final String NAME = "com.kronos.SlowConverter";
+
+    @Label("Converter")
+    public Class<?> converter;
+
+    @Label("Value Type")
+    public Class<?> valueType;
+
+    @Label("Format")
+    public String format;
+}
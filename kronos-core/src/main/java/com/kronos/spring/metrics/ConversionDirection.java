@@ -0,0 +1,26 @@
+package com.kronos.spring.metrics;
+
+/**
+ * @author zhangyh
+ * @Date 2026/10/19 18:20
+ * @desc 转换方向，作为指标的direction标签
+ */
+public enum ConversionDirection {
+
+    /**
+     * 方法参数，客户端时区 -> 后端时区
+     */
+    REQUEST,
+
+    /**
+     * 方法返回值，后端时区 -> 客户端时区
+     */
+    RESPONSE;
+
+    /**
+     * 标签值
+     */
+    public String tag() {
+        return this == REQUEST ? "request" : "response";
+    }
+}
@@ -0,0 +1,36 @@
+package com.kronos.spring.metrics;
+
+import com.kronos.spring.support.ConversionStats;
+
+import java.lang.reflect.Method;
+
+/**
+ * @author zhangyh
+ * @Date 2026/10/19 18:25
+ * @desc 转换指标的记录方式，默认为NONE，转换器只在isEnabled()为true时计时和计数
+ */
+public interface ConversionMetrics {
+
+    /**
+     * 不记录任何指标
+     */
+    ConversionMetrics NONE = new ConversionMetrics() {
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+
+        @Override
+        public void record(Method method, ConversionDirection direction, long nanos, ConversionStats stats) {
+        }
+    };
+
+    boolean isEnabled();
+
+    /**
+     * 记录一次@ConvertTime方法参数或返回值的转换
+     * @param nanos 转换耗时
+     * @param stats 本次转换的遍历计数
+     */
+    void record(Method method, ConversionDirection direction, long nanos, ConversionStats stats);
+}
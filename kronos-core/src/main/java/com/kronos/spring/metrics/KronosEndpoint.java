@@ -0,0 +1,95 @@
+package com.kronos.spring.metrics;
+
+import com.kronos.spring.support.CacheStats;
+import com.kronos.spring.support.ConversionPlan;
+import com.kronos.spring.support.FieldPlan;
+import com.kronos.spring.support.TimeZoneConverter;
+import com.kronos.spring.support.format.DateTimeFormatRegistry;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.*;
+
+/**
+ * @author zhangyh
+ * @Date 2026/10/19 18:50
+ * @desc kronos端点：转换耗时最高的@ConvertTime方法、各缓存的大小和命中率以及已缓存的类型元数据
+ */
+@Endpoint(id = "kronos")
+public class KronosEndpoint {
+
+    private static final int HOTTEST_LIMIT = 20;
+
+    private final TimeZoneConverter           converter;
+    private final MicrometerConversionMetrics metrics;
+
+    public KronosEndpoint(TimeZoneConverter converter, MicrometerConversionMetrics metrics) {
+        this.converter = converter;
+        this.metrics = metrics;
+    }
+
+    @ReadOperation
+    public Map<String, Object> kronos() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("metricsEnabled", metrics.isEnabled());
+        result.put("endpoints", metrics.hottest(HOTTEST_LIMIT));
+        result.put("caches", caches());
+        result.put("types", types());
+        return result;
+    }
+
+    private Map<String, Object> caches() {
+        Map<String, Object> caches = new LinkedHashMap<>();
+        caches.put("plan", cache(converter.getObjectProcessor().getCachedPlans().size(),
+                converter.getObjectProcessor().getPlanStats()));
+        caches.put("method-plan", Collections.singletonMap("size",
+                converter.getObjectProcessor().getMethodPlanCacheSize()));
+        DateTimeFormatRegistry formats = converter.getFormatRegistry();
+        Map<String, Object> format = new LinkedHashMap<>();
+        format.put("size", formats.size());
+        format.put("hits", formats.getHitCount());
+        format.put("misses", formats.getMissCount());
+        format.put("hitRate", formats.hitRate());
+        caches.put("format", format);
+        caches.put("zone-pair", cache(converter.getZonePairCacheSize(), converter.getZonePairStats()));
+        return caches;
+    }
+
+    private static Map<String, Object> cache(int size, CacheStats stats) {
+        Map<String, Object> cache = new LinkedHashMap<>();
+        cache.put("size", size);
+        cache.put("hits", stats.getHitCount());
+        cache.put("misses", stats.getMissCount());
+        cache.put("hitRate", stats.hitRate());
+        return cache;
+    }
+
+    /**
+     * 有可转换字段的类型及其字段，按类名排序，没有字段的类型只计数
+     */
+    private Map<String, Object> types() {
+        List<ConversionPlan> plans = new ArrayList<>(converter.getObjectProcessor().getCachedPlans());
+        plans.sort(Comparator.comparing(plan -> plan.getType().getName()));
+        Map<String, Object> types = new LinkedHashMap<>();
+        int timeFree = 0;
+        for (ConversionPlan plan : plans) {
+            if (plan.isEmpty()) {
+                timeFree++;
+                continue;
+            }
+            List<String> fields = new ArrayList<>();
+            for (FieldPlan field : plan.getFields()) {
+                fields.add(field.getName());
+            }
+            Map<String, Object> type = new LinkedHashMap<>();
+            type.put("record", plan.isRecord());
+            type.put("fields", fields);
+            types.put(plan.getType().getName(), type);
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("cached", plans.size());
+        result.put("timeFree", timeFree);
+        result.put("convertible", types);
+        return result;
+    }
+}
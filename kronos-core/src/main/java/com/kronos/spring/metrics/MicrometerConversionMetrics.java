@@ -0,0 +1,195 @@
+package com.kronos.spring.metrics;
+
+import com.kronos.spring.support.ConversionBudget;
+import com.kronos.spring.support.ConversionStats;
+import com.kronos.spring.support.TimeZoneConverter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * @author zhangyh
+ * @Date 2026/10/19 18:35
+ * @desc 基于Micrometer的转换指标，Actuator把它绑定到MeterRegistry之后转换器才开始计时和计数，
+ * 没有MeterRegistry时转换器保持ConversionMetrics.NONE
+ * <ul>
+ *     <li>kronos.conversion：按方法和方向（request/response）统计转换耗时</li>
+ *     <li>kronos.conversion.nodes / kronos.conversion.fields：遍历的节点数和回写的字段数</li>
+ *     <li>kronos.conversion.strings：交给转换器的字符串，result=parsed/rejected</li>
+ *     <li>kronos.conversion.budget.exceeded：超出遍历预算的转换，limit=maxDepth/maxNodes/maxTime</li>
+ *     <li>kronos.cache.size / kronos.cache.hit.rate：转换计划、方法类型计划、格式和时区对缓存</li>
+ * </ul>
+ */
+public class MicrometerConversionMetrics implements ConversionMetrics, MeterBinder {
+
+    public static final String CONVERSION = "kronos.conversion";
+
+    private final TimeZoneConverter converter;
+
+    // 按方法缓存两个方向的Timer，每次记录不再按标签查找
+    private final Map<Method, MethodMeters> methodMeters = new ConcurrentHashMap<>();
+
+    private volatile MeterRegistry registry;
+
+    // 按方向的计数器，下标为ConversionDirection.ordinal()
+    private Counter[] nodes;
+    private Counter[] fields;
+    private Counter[] stringsParsed;
+    private Counter[] stringsRejected;
+
+    // 按方向和超出的限制计数
+    private final Map<String, Counter[]> budgetExceeded = new ConcurrentHashMap<>();
+
+    public MicrometerConversionMetrics(TimeZoneConverter converter) {
+        this.converter = converter;
+    }
+
+    /**
+     * 只绑定第一个MeterRegistry，同时存在多个注册表时由CompositeMeterRegistry汇总
+     */
+    @Override
+    public synchronized void bindTo(MeterRegistry registry) {
+        if (this.registry != null) {
+            return;
+        }
+        ConversionDirection[] directions = ConversionDirection.values();
+        nodes = new Counter[directions.length];
+        fields = new Counter[directions.length];
+        stringsParsed = new Counter[directions.length];
+        stringsRejected = new Counter[directions.length];
+        for (ConversionDirection direction : directions) {
+            int i = direction.ordinal();
+            nodes[i] = Counter.builder(CONVERSION + ".nodes").tag("direction", direction.tag())
+                    .description("遍历的自定义对象、集合、Map和数组").register(registry);
+            fields[i] = Counter.builder(CONVERSION + ".fields").tag("direction", direction.tag())
+                    .description("值发生变化并回写的字段").register(registry);
+            stringsParsed[i] = Counter.builder(CONVERSION + ".strings").tag("direction", direction.tag())
+                    .tag("result", "parsed").register(registry);
+            stringsRejected[i] = Counter.builder(CONVERSION + ".strings").tag("direction", direction.tag())
+                    .tag("result", "rejected").register(registry);
+        }
+        for (String limit : new String[]{ConversionBudget.MAX_DEPTH, ConversionBudget.MAX_NODES,
+                ConversionBudget.MAX_TIME}) {
+            Counter[] counters = new Counter[directions.length];
+            for (ConversionDirection direction : directions) {
+                counters[direction.ordinal()] = Counter.builder(CONVERSION + ".budget.exceeded")
+                        .tag("direction", direction.tag()).tag("limit", limit).register(registry);
+            }
+            budgetExceeded.put(limit, counters);
+        }
+
+        cacheGauges(registry, "plan", c -> c.getObjectProcessor().getCachedPlans().size(),
+                c -> c.getObjectProcessor().getPlanStats().hitRate());
+        cacheGauges(registry, "method-plan", c -> c.getObjectProcessor().getMethodPlanCacheSize(), null);
+        cacheGauges(registry, "format", c -> c.getFormatRegistry().size(), c -> c.getFormatRegistry().hitRate());
+        cacheGauges(registry, "zone-pair", TimeZoneConverter::getZonePairCacheSize,
+                c -> c.getZonePairStats().hitRate());
+
+        this.registry = registry;
+        converter.setMetrics(this);
+    }
+
+    private void cacheGauges(MeterRegistry registry, String cache,
+                             ToDoubleFunction<TimeZoneConverter> size,
+                             ToDoubleFunction<TimeZoneConverter> hitRate) {
+        Gauge.builder("kronos.cache.size", converter, size).tag("cache", cache).register(registry);
+        if (hitRate != null) {
+            Gauge.builder("kronos.cache.hit.rate", converter, hitRate).tag("cache", cache).register(registry);
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return registry != null;
+    }
+
+    @Override
+    public void record(Method method, ConversionDirection direction, long nanos, ConversionStats stats) {
+        MethodMeters meters = methodMeters.get(method);
+        if (meters == null) {
+            meters = methodMeters.computeIfAbsent(method, this::newMethodMeters);
+        }
+        meters.timers[direction.ordinal()].record(nanos, TimeUnit.NANOSECONDS);
+
+        int i = direction.ordinal();
+        increment(nodes[i], stats.getNodesVisited());
+        increment(fields[i], stats.getFieldsConverted());
+        increment(stringsParsed[i], stats.getStringsParsed());
+        increment(stringsRejected[i], stats.getStringsRejected());
+        if (stats.getBudgetExceeded() != null) {
+            budgetExceeded.get(stats.getBudgetExceeded())[i].increment();
+        }
+    }
+
+    private static void increment(Counter counter, int amount) {
+        if (amount > 0) {
+            counter.increment(amount);
+        }
+    }
+
+    private MethodMeters newMethodMeters(Method method) {
+        String name = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+        ConversionDirection[] directions = ConversionDirection.values();
+        Timer[] timers = new Timer[directions.length];
+        for (ConversionDirection direction : directions) {
+            timers[direction.ordinal()] = Timer.builder(CONVERSION)
+                    .tag("method", name)
+                    .tag("direction", direction.tag())
+                    .description("@ConvertTime方法参数和返回值的转换耗时")
+                    .register(registry);
+        }
+        return new MethodMeters(name, timers);
+    }
+
+    /**
+     * 按累计转换耗时（两个方向之和）排序的方法
+     * @param limit 最多返回的数量
+     */
+    public List<Map<String, Object>> hottest(int limit) {
+        List<MethodMeters> sorted = new ArrayList<>(methodMeters.values());
+        sorted.sort(Comparator.comparingDouble(MethodMeters::totalMillis).reversed());
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (MethodMeters meters : sorted.subList(0, Math.min(limit, sorted.size()))) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("method", meters.name);
+            entry.put("totalMillis", meters.totalMillis());
+            for (ConversionDirection direction : ConversionDirection.values()) {
+                Timer timer = meters.timers[direction.ordinal()];
+                Map<String, Object> detail = new LinkedHashMap<>();
+                detail.put("count", timer.count());
+                detail.put("totalMillis", timer.totalTime(TimeUnit.MILLISECONDS));
+                detail.put("meanMillis", timer.mean(TimeUnit.MILLISECONDS));
+                detail.put("maxMillis", timer.max(TimeUnit.MILLISECONDS));
+                entry.put(direction.tag(), detail);
+            }
+            result.add(entry);
+        }
+        return result;
+    }
+
+    private static final class MethodMeters {
+        private final String  name;
+        private final Timer[] timers;
+
+        private MethodMeters(String name, Timer[] timers) {
+            this.name = name;
+            this.timers = timers;
+        }
+
+        private double totalMillis() {
+            double total = 0;
+            for (Timer timer : timers) {
+                total += timer.totalTime(TimeUnit.MILLISECONDS);
+            }
+            return total;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.kronos.spring.reactive;
+
+import com.kronos.spring.config.KronosProperty;
+import com.kronos.spring.support.ZoneIdResolver;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+import java.time.DateTimeException;
+import java.time.ZoneId;
+
+/**
+ * @author zhangyh
+ * @Date 2026/10/18 20:40
+ * @desc WebFlux下的时区过滤器，请求会在多个线程之间切换，时区放在Reactor Context中而不是ThreadLocal
+ */
+public class TimeZoneWebFilter implements WebFilter, Ordered {
+
+    /**
+     * Reactor Context中存放客户端时区的key
+     */
+    public static final String ZONE_ID_KEY = TimeZoneWebFilter.class.getName() + ".ZONE_ID";
+
+    private final KronosProperty properties;
+    private final ZoneIdResolver zoneIdResolver;
+    private final ZoneId         defaultClientZoneId;
+
+    public TimeZoneWebFilter(KronosProperty properties, ZoneIdResolver zoneIdResolver) {
+        this.properties = properties;
+        this.zoneIdResolver = zoneIdResolver;
+        this.defaultClientZoneId = ZoneIdResolver.parse(properties.getDefaultClientZoneId());
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String timeZoneId = exchange.getRequest().getHeaders().getFirst(properties.getClientZoneIdHeader());
+        ZoneId zoneId;
+        if (StringUtils.hasText(timeZoneId)) {
+            try {
+                zoneId = zoneIdResolver.resolve(timeZoneId);
+            } catch (DateTimeException e) {
+                // 无法识别的时区直接返回400，与Servlet下的行为一致
+                return Mono.error(new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "无法识别的时区: " + properties.getClientZoneIdHeader() + "=" + timeZoneId, e));
+            }
+        } else {
+            zoneId = defaultClientZoneId;
+        }
+        return chain.filter(exchange).contextWrite(context -> context.put(ZONE_ID_KEY, zoneId));
+    }
+
+    /**
+     * 从Reactor Context中读取客户端时区，没有时返回null
+     */
+    public static ZoneId getZoneId(ContextView context) {
+        return context.getOrDefault(ZONE_ID_KEY, null);
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 100;
+    }
+}
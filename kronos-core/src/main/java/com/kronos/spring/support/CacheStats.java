@@ -0,0 +1,53 @@
+package com.kronos.spring.support;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @author zhangyh
+ * @Date 2026/10/19 18:10
+ * @desc 缓存命中统计，开启指标之前hit/miss只读一次布尔字段，不做任何计数
+ */
+public final class CacheStats {
+
+    private final LongAdder hits   = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private volatile boolean enabled;
+
+    public void enable() {
+        this.enabled = true;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void hit() {
+        if (enabled) {
+            hits.increment();
+        }
+    }
+
+    public void miss() {
+        if (enabled) {
+            misses.increment();
+        }
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * 缓存命中率，没有任何请求时为0
+     */
+    public double hitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+}
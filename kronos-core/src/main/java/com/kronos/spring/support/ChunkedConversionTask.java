@@ -0,0 +1,62 @@
+package com.kronos.spring.support;
+
+import java.util.List;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * @author zhangyh
+ * @Date 2026/10/18 19:10
+ * @desc 大集合的分块并行转换，每个分块使用独立的转换上下文（继承祖先路径做循环检测），
+ * 结果按下标写入目标数组，顺序与原集合一致
+ */
+final class ChunkedConversionTask extends RecursiveAction {
+
+    private final ObjectProcessor   processor;
+    private final List<?>           source;
+    private final Object[]          target;
+    private final int               from;
+    private final int               to;
+    private final int               chunkSize;
+    private final TypePlan          element;
+    private final ConversionContext parent;
+    private final TimeZoneContext   holderContext;
+
+    /**
+     * @param source 为null时就地转换target数组
+     * @param element 元素的类型计划
+     */
+    ChunkedConversionTask(ObjectProcessor processor, List<?> source, Object[] target, int from, int to,
+                          int chunkSize, TypePlan element, ConversionContext parent, TimeZoneContext holderContext) {
+        this.processor = processor;
+        this.source = source;
+        this.target = target;
+        this.from = from;
+        this.to = to;
+        this.chunkSize = chunkSize;
+        this.element = element;
+        this.parent = parent;
+        this.holderContext = holderContext;
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from > chunkSize) {
+            int middle = (from + to) >>> 1;
+            invokeAll(new ChunkedConversionTask(processor, source, target, from, middle, chunkSize, element, parent,
+                            holderContext),
+                    new ChunkedConversionTask(processor, source, target, middle, to, chunkSize, element, parent,
+                            holderContext));
+            return;
+        }
+
+        // 自定义转换器可能读取TimeZoneContextHolder，工作线程上同样绑定请求的时区
+        TimeZoneContextHolder.runWith(holderContext, () -> {
+            ConversionContext context = parent.fork();
+            for (int i = from; i < to; i++) {
+                Object item = source != null ? source.get(i) : target[i];
+                target[i] = processor.process(item, element, context);
+            }
+            parent.join(context);
+        });
+    }
+}
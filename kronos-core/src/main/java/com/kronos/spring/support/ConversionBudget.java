@@ -0,0 +1,59 @@
+package com.kronos.spring.support;
+
+import com.kronos.spring.config.BudgetExceededPolicy;
+import com.kronos.spring.config.KronosProperty;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author zhangyh
+ * @Date 2026/10/19 21:15
+ * @desc 单次转换的遍历预算，小于等于0的限制不生效，全部不生效时转换上下文不做任何检查
+ */
+public final class ConversionBudget {
+
+    public static final String MAX_DEPTH = "maxDepth";
+    public static final String MAX_NODES = "maxNodes";
+    public static final String MAX_TIME  = "maxTime";
+
+    private final int                  maxDepth;
+    private final int                  maxNodes;
+    private final long                 maxNanos;
+    private final BudgetExceededPolicy policy;
+
+    public ConversionBudget(int maxDepth, int maxNodes, long maxMillis, BudgetExceededPolicy policy) {
+        this.maxDepth = maxDepth;
+        this.maxNodes = maxNodes;
+        this.maxNanos = maxMillis > 0 ? TimeUnit.MILLISECONDS.toNanos(maxMillis) : 0;
+        this.policy = policy != null ? policy : BudgetExceededPolicy.LOG;
+    }
+
+    /**
+     * 按配置创建预算，没有任何限制时返回null
+     */
+    public static ConversionBudget of(KronosProperty properties) {
+        ConversionBudget budget = new ConversionBudget(properties.getMaxDepth(), properties.getMaxNodes(),
+                properties.getMaxTimeMillis(), properties.getBudgetExceededPolicy());
+        return budget.isUnlimited() ? null : budget;
+    }
+
+    public boolean isUnlimited() {
+        return maxDepth <= 0 && maxNodes <= 0 && maxNanos <= 0;
+    }
+
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    public int getMaxNodes() {
+        return maxNodes;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    public BudgetExceededPolicy getPolicy() {
+        return policy;
+    }
+}
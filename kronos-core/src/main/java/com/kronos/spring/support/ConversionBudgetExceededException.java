@@ -0,0 +1,23 @@
+package com.kronos.spring.support;
+
+/**
+ * @author zhangyh
+ * @Date 2026/10/19 21:20
+ * @desc 转换超出遍历预算，只在BudgetExceededPolicy.FAIL时抛出
+ */
+public class ConversionBudgetExceededException extends IllegalStateException {
+
+    private final String limit;
+
+    public ConversionBudgetExceededException(String limit, String message) {
+        super(message);
+        this.limit = limit;
+    }
+
+    /**
+     * 超出的限制，取值为ConversionBudget.MAX_DEPTH、MAX_NODES或MAX_TIME
+     */
+    public String getLimit() {
+        return limit;
+    }
+}
@@ -1,40 +1,259 @@
 package com.kronos.spring.support;
 
+import com.kronos.spring.config.BudgetExceededPolicy;
+import com.kronos.spring.support.format.CompiledFormat;
+import lombok.extern.slf4j.Slf4j;
+
 import java.time.ZoneId;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * @author zhangyh
  * @Date 2025/5/26 10:55
  * @desc 转换上下文，包含转换所需的所有信息
  */
+@Slf4j
 public class ConversionContext {
-    private final ZoneId      fromZone;
-    private final ZoneId      toZone;
-    private final String      defaultFormat;
-    private final Set<Object> processedObjects;
+
+    /**
+     * 默认在遍历深度超过该值后才分配引用集合
+     */
+    public static final int DEFAULT_CYCLE_TRACKING_DEPTH = 16;
+
+    private final ZoneId            fromZone;
+    private final ZoneId            toZone;
+    private final ZonePairConverter zonePair;
+    private final CompiledFormat    defaultFormat;
+    private final int               cycleTrackingDepth;
+
+    // 遍历计数，未开启指标时为null
+    private final ConversionStats   stats;
+
+    // 遍历预算，没有任何限制时为null
+    private final ConversionBudget  budget;
+    private final long              deadline;
+
+    // 已遍历的节点数和第一次超出的限制，并行分块与父上下文共用同一份，没有预算时为null
+    private final BudgetState       budgetState;
+
+    // 当前生效的格式，处理标注了@Time(format)的字段或参数时临时替换
+    private CompiledFormat          format;
+
+    // 当前遍历路径上的对象，浅层时直接按引用逐个比较
+    private Object[]                path;
+    private int                     depth;
+
+    // 遍历深度超过cycleTrackingDepth后才分配，包含整条路径
+    private IdentityObjectSet       deepPath;
 
     public ConversionContext(ZoneId fromZone, ZoneId toZone, String defaultFormat) {
-        this.fromZone = fromZone;
-        this.toZone = toZone;
+        this(fromZone, toZone, CompiledFormat.of(defaultFormat), DEFAULT_CYCLE_TRACKING_DEPTH);
+    }
+
+    public ConversionContext(ZoneId fromZone, ZoneId toZone, CompiledFormat defaultFormat, int cycleTrackingDepth) {
+        this(new ZonePairConverter(fromZone, toZone), defaultFormat, cycleTrackingDepth);
+    }
+
+    public ConversionContext(ZonePairConverter zonePair, CompiledFormat defaultFormat, int cycleTrackingDepth) {
+        this(zonePair, defaultFormat, cycleTrackingDepth, null);
+    }
+
+    /**
+     * @param stats 遍历计数，为null时不计数
+     */
+    public ConversionContext(ZonePairConverter zonePair, CompiledFormat defaultFormat, int cycleTrackingDepth,
+                             ConversionStats stats) {
+        this(zonePair, defaultFormat, cycleTrackingDepth, stats, null);
+    }
+
+    /**
+     * @param budget 遍历预算，为null时不限制，耗时从创建上下文时开始计算
+     */
+    public ConversionContext(ZonePairConverter zonePair, CompiledFormat defaultFormat, int cycleTrackingDepth,
+                             ConversionStats stats, ConversionBudget budget) {
+        this(zonePair, defaultFormat, cycleTrackingDepth, stats, budget,
+                budget != null && budget.getMaxNanos() > 0 ? System.nanoTime() + budget.getMaxNanos() : 0,
+                budget != null ? new BudgetState() : null);
+    }
+
+    private ConversionContext(ZonePairConverter zonePair, CompiledFormat defaultFormat, int cycleTrackingDepth,
+                              ConversionStats stats, ConversionBudget budget, long deadline, BudgetState budgetState) {
+        this.fromZone = zonePair.getFromZone();
+        this.toZone = zonePair.getToZone();
+        this.zonePair = zonePair;
         this.defaultFormat = defaultFormat;
-        this.processedObjects = new HashSet<>();
+        this.format = defaultFormat;
+        this.cycleTrackingDepth = Math.max(cycleTrackingDepth, 1);
+        this.stats = stats;
+        this.budget = budget;
+        this.deadline = deadline;
+        this.budgetState = budgetState;
     }
 
     public ZoneId getFromZone() { return fromZone; }
     public ZoneId getToZone() { return toZone; }
-    public String getDefaultFormat() { return defaultFormat; }
+    public String getDefaultFormat() { return defaultFormat.getPattern(); }
+
+    /**
+     * 原始时区到目标时区的时区对，内置转换器基于它计算偏移量
+     */
+    public ZonePairConverter getZonePair() { return zonePair; }
 
+    /**
+     * 当前生效的格式
+     */
+    public CompiledFormat getFormat() { return format; }
+
+    /**
+     * 遍历计数，未开启指标时为null
+     */
+    public ConversionStats getStats() { return stats; }
+
+    /**
+     * 替换当前生效的格式，传入null时恢复默认格式
+     * @return 替换前的格式，用于处理完成后恢复
+     */
+    public CompiledFormat switchFormat(CompiledFormat newFormat) {
+        CompiledFormat previous = this.format;
+        this.format = newFormat != null ? newFormat : defaultFormat;
+        return previous;
+    }
+
+    /**
+     * 创建并行分块使用的上下文，继承当前的格式和遍历路径，之后各自独立做循环检测和计数。
+     * 预算与当前上下文共用，节点数按所有分块的总和计算，任一分块超出预算后其余分块同样停止
+     */
+    public ConversionContext fork() {
+        ConversionContext child = new ConversionContext(zonePair, defaultFormat, cycleTrackingDepth,
+                stats != null ? new ConversionStats() : null, budget, deadline, budgetState);
+        child.format = format;
+        for (int i = 0; i < depth; i++) {
+            child.markProcessed(path[i]);
+        }
+        return child;
+    }
+
+    /**
+     * 并行分块结束后把计数合并回当前上下文
+     */
+    public void join(ConversionContext child) {
+        if (stats != null && child.stats != null) {
+            stats.merge(child.stats);
+        }
+    }
+
+    /**
+     * 进入一个自定义对象、集合、Map或数组之前检查预算，返回false表示已经停止转换，节点原样返回
+     * @throws ConversionBudgetExceededException 超出预算且策略为FAIL
+     */
+    public boolean enterNode() {
+        if (budget == null) {
+            return true;
+        }
+        if (budgetState.exceeded.get() != null) {
+            return budget.getPolicy() == BudgetExceededPolicy.LOG;
+        }
+        int nodes = budgetState.nodes.incrementAndGet();
+        if (budget.getMaxNodes() > 0 && nodes > budget.getMaxNodes()) {
+            return onExceeded(ConversionBudget.MAX_NODES, budget.getMaxNodes());
+        }
+        if (budget.getMaxDepth() > 0 && depth >= budget.getMaxDepth()) {
+            return onExceeded(ConversionBudget.MAX_DEPTH, budget.getMaxDepth());
+        }
+        if (deadline != 0 && System.nanoTime() - deadline > 0) {
+            return onExceeded(ConversionBudget.MAX_TIME, budget.getMaxNanos() / 1_000_000);
+        }
+        return true;
+    }
+
+    private boolean onExceeded(String limit, long value) {
+        // 并行分块同时超出时只由第一个报告，其余按已超出处理
+        if (!budgetState.exceeded.compareAndSet(null, limit)) {
+            return budget.getPolicy() == BudgetExceededPolicy.LOG;
+        }
+        if (stats != null) {
+            stats.budgetExceeded(limit);
+        }
+        String message = "kronos转换超出预算" + limit + "=" + value + "（" + fromZone + " -> " + toZone + "，已遍历"
+                + budgetState.nodes.get() + "个节点）";
+        switch (budget.getPolicy()) {
+            case FAIL:
+                throw new ConversionBudgetExceededException(limit, message);
+            case STOP:
+                log.warn(message + "，停止转换");
+                return false;
+            default:
+                log.warn(message);
+                return true;
+        }
+    }
+
+    /**
+     * 是否因为超出预算停止了转换（STOP策略）
+     */
+    public boolean isStopped() {
+        return budgetState != null && budgetState.exceeded.get() != null
+                && budget.getPolicy() == BudgetExceededPolicy.STOP;
+    }
+
+    /**
+     * 是否已经启用了基于哈希的循环检测（遍历深度超过了阈值）
+     */
+    public boolean isDeepTrackingUsed() {
+        return deepPath != null;
+    }
+
+    /**
+     * 对象是否在当前遍历路径上
+     */
     public boolean isProcessed(Object obj) {
-        return processedObjects.contains(obj);
+        if (deepPath != null) {
+            return deepPath.contains(obj);
+        }
+        for (int i = 0; i < depth; i++) {
+            if (path[i] == obj) {
+                return true;
+            }
+        }
+        return false;
     }
 
     public void markProcessed(Object obj) {
-        processedObjects.add(obj);
+        if (path == null) {
+            path = new Object[cycleTrackingDepth];
+        } else if (depth == path.length) {
+            Object[] newPath = new Object[depth << 1];
+            System.arraycopy(path, 0, newPath, 0, depth);
+            path = newPath;
+        }
+        path[depth++] = obj;
+
+        if (deepPath != null) {
+            deepPath.add(obj);
+        } else if (depth > cycleTrackingDepth) {
+            if (stats != null) {
+                stats.deepTrackingUsed();
+            }
+            deepPath = new IdentityObjectSet(depth);
+            for (int i = 0; i < depth; i++) {
+                deepPath.add(path[i]);
+            }
+        }
     }
 
     public void unmarkProcessed(Object obj) {
-        processedObjects.remove(obj);
+        path[--depth] = null;
+        if (deepPath != null) {
+            deepPath.remove(obj);
+        }
+    }
+
+    /**
+     * 预算的使用情况，并行分块在多个线程上同时更新
+     */
+    private static final class BudgetState {
+        private final AtomicInteger           nodes    = new AtomicInteger();
+        private final AtomicReference<String> exceeded = new AtomicReference<>();
     }
 }
@@ -0,0 +1,107 @@
+package com.kronos.spring.support;
+
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * @author zhangyh
+ * @Date 2026/10/18 9:10
+ * @desc 类级别的转换计划，只包含可能承载时间数据的字段
+ */
+public class ConversionPlan {
+
+    private static final FieldPlan[] NO_FIELDS = new FieldPlan[0];
+
+    private final Class<?>       type;
+    private final FieldPlan[]    fields;
+
+    // record通过规范构造器重建，普通类为null
+    private final MethodHandle   recordConstructor;
+    private final MethodHandle[] componentGetters;
+
+    // record存在生成的访问器时通过它读取组件和创建实例
+    private final KronosAccessor.Instantiable recordAccessor;
+
+    ConversionPlan(Class<?> type, List<FieldPlan> fields) {
+        this(type, fields, null, null);
+    }
+
+    ConversionPlan(Class<?> type, List<FieldPlan> fields, MethodHandle recordConstructor, MethodHandle[] componentGetters) {
+        this(type, fields, recordConstructor, componentGetters, null);
+    }
+
+    ConversionPlan(Class<?> type, List<FieldPlan> fields, KronosAccessor.Instantiable recordAccessor) {
+        this(type, fields, null, null, recordAccessor);
+    }
+
+    private ConversionPlan(Class<?> type, List<FieldPlan> fields, MethodHandle recordConstructor,
+                           MethodHandle[] componentGetters, KronosAccessor.Instantiable recordAccessor) {
+        this.type = type;
+        this.fields = fields.isEmpty() ? NO_FIELDS : fields.toArray(new FieldPlan[0]);
+        this.recordConstructor = recordConstructor;
+        this.componentGetters = componentGetters;
+        this.recordAccessor = recordAccessor;
+    }
+
+    public Class<?> getType() { return type; }
+
+    /**
+     * 热路径直接遍历数组，避免迭代器分配
+     */
+    FieldPlan[] fields() { return fields; }
+
+    public List<FieldPlan> getFields() {
+        return Collections.unmodifiableList(Arrays.asList(fields));
+    }
+
+    /**
+     * 没有任何需要处理的字段，整棵子树可以直接跳过
+     */
+    public boolean isEmpty() { return fields.length == 0; }
+
+    /**
+     * 是否为record，字段值变化时需要复制出新的实例
+     */
+    public boolean isRecord() { return recordConstructor != null || recordAccessor != null; }
+
+    /**
+     * 按规范构造器的参数顺序读取record的所有组件
+     */
+    Object[] readComponents(Object target) {
+        if (recordAccessor != null) {
+            Object[] values = new Object[recordAccessor.fieldNames().length];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = recordAccessor.get(target, i);
+            }
+            return values;
+        }
+        Object[] values = new Object[componentGetters.length];
+        try {
+            for (int i = 0; i < values.length; i++) {
+                values[i] = (Object) componentGetters[i].invokeExact(target);
+            }
+        } catch (Throwable ex) {
+            ReflectionUtils.rethrowRuntimeException(ex);
+        }
+        return values;
+    }
+
+    /**
+     * 通过规范构造器创建新的record
+     */
+    Object newRecord(Object[] components) {
+        if (recordAccessor != null) {
+            return recordAccessor.newInstance(components);
+        }
+        try {
+            return (Object) recordConstructor.invokeExact(components);
+        } catch (Throwable ex) {
+            ReflectionUtils.rethrowRuntimeException(ex);
+            return null;
+        }
+    }
+}
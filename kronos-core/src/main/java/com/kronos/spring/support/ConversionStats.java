@@ -0,0 +1,76 @@
+package com.kronos.spring.support;
+
+/**
+ * @author zhangyh
+ * @Date 2026/10/19 18:15
+ * @desc 一次转换的遍历计数，只在开启指标或记录JFR事件时随转换上下文创建，单线程累加，并行分块结束后合并到父上下文
+ */
+public final class ConversionStats {
+
+    private int nodesVisited;
+    private int fieldsConverted;
+    private int stringsParsed;
+    private int stringsRejected;
+
+    // 遍历深度超过了cycleTrackingDepth，启用了基于哈希的循环检测
+    private boolean deepTracking;
+
+    // 第一次超出的预算限制，没有超出时为null
+    private String  budgetExceeded;
+
+    /**
+     * 进入了一个自定义对象、集合、Map或数组
+     */
+    void nodeVisited() {
+        nodesVisited++;
+    }
+
+    /**
+     * 字段的值发生变化并已回写
+     */
+    void fieldConverted() {
+        fieldsConverted++;
+    }
+
+    /**
+     * 字符串交给转换器处理，parsed为false表示不是日期原样返回
+     */
+    void stringConverted(boolean parsed) {
+        if (parsed) {
+            stringsParsed++;
+        } else {
+            stringsRejected++;
+        }
+    }
+
+    void deepTrackingUsed() {
+        deepTracking = true;
+    }
+
+    void budgetExceeded(String limit) {
+        if (budgetExceeded == null) {
+            budgetExceeded = limit;
+        }
+    }
+
+    /**
+     * 合并并行分块或单次转换的计数，多个工作线程可能同时合并
+     */
+    synchronized void merge(ConversionStats other) {
+        deepTracking |= other.deepTracking;
+        if (budgetExceeded == null) {
+            budgetExceeded = other.budgetExceeded;
+        }
+        nodesVisited += other.nodesVisited;
+        fieldsConverted += other.fieldsConverted;
+        stringsParsed += other.stringsParsed;
+        stringsRejected += other.stringsRejected;
+    }
+
+    public int getNodesVisited() { return nodesVisited; }
+    public int getFieldsConverted() { return fieldsConverted; }
+    public int getStringsParsed() { return stringsParsed; }
+    public int getStringsRejected() { return stringsRejected; }
+    public boolean isDeepTrackingUsed() { return deepTracking; }
+    public String getBudgetExceeded() { return budgetExceeded; }
+}
@@ -0,0 +1,59 @@
+package com.kronos.spring.support;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Set;
+
+/**
+ * @author zhangyh
+ * @Date 2026/10/19 13:10
+ * @desc 沿方法参数、返回值和字段的声明类型（含泛型参数）收集可能被转换的类，AOT构建和启动预热共用
+ */
+public final class ConvertedTypeCollector {
+
+    private ConvertedTypeCollector() {
+    }
+
+    /**
+     * 收集方法参数和返回值可达的类，泛型按beanType解析
+     */
+    public static void collectMethodTypes(Method method, Class<?> beanType, Set<Class<?>> types) {
+        for (int i = 0; i < method.getParameterCount(); i++) {
+            collect(ResolvableType.forMethodParameter(method, i, beanType), types);
+        }
+        collect(ResolvableType.forMethodReturnType(method, beanType), types);
+    }
+
+    public static void collect(ResolvableType type, Set<Class<?>> types) {
+        Class<?> resolved = type.resolve();
+        if (resolved == null) {
+            return;
+        }
+        if (resolved.isArray()) {
+            collect(type.getComponentType(), types);
+            return;
+        }
+        // 容器和包装类型（集合、Optional、Mono、ResponseEntity等）只关心泛型参数
+        for (ResolvableType generic : type.getGenerics()) {
+            collect(generic, types);
+        }
+        if (!isConvertedType(resolved) || !types.add(resolved)) {
+            return;
+        }
+        ReflectionUtils.doWithFields(resolved, field -> {
+            if (isConvertedType(field.getDeclaringClass())) {
+                types.add(field.getDeclaringClass());
+            }
+            collect(ResolvableType.forField(field, resolved), types);
+        }, field -> !Modifier.isStatic(field.getModifiers()));
+    }
+
+    private static boolean isConvertedType(Class<?> type) {
+        String name = type.getName();
+        return TimeTypeAnalyzer.isCustomObject(type) && !type.isInterface()
+                && !name.startsWith("org.springframework.") && !name.startsWith("reactor.");
+    }
+}
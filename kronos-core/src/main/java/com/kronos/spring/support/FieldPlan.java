@@ -0,0 +1,146 @@
+package com.kronos.spring.support;
+
+import com.kronos.spring.support.format.CompiledFormat;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+
+/**
+ * @author zhangyh
+ * @Date 2026/10/18 9:12
+ * @desc 单个字段的转换计划，持有预先解析好的访问句柄和转换器
+ */
+public class FieldPlan {
+
+    private final Field                 field;
+    private final MethodHandle          getter;
+    private final MethodHandle          setter;
+    private final TypeConverter<Object> converter;
+    private final boolean               annotated;
+    private final boolean               dynamic;
+    private final Class<?>              timeFreeType;
+    private final CompiledFormat        format;
+    private final int                   componentIndex;
+
+    // 按字段声明类型（含泛型参数）编译的遍历计划，已经绑定转换器时不使用
+    private final TypePlan              valuePlan;
+
+    // 编译期生成的访问器，存在时不使用getter/setter句柄；record组件只读，writer为null
+    private final KronosAccessor          accessor;
+    private final KronosAccessor.Writable writer;
+    private final int                     accessorIndex;
+    private final boolean                 writable;
+
+    FieldPlan(Field field, MethodHandle getter, MethodHandle setter, TypeConverter<Object> converter,
+              boolean annotated, boolean dynamic, Class<?> timeFreeType, CompiledFormat format, int componentIndex,
+              TypePlan valuePlan) {
+        this(field, getter, setter, null, null, -1, setter != null, converter, annotated, dynamic, timeFreeType,
+                format, componentIndex, valuePlan);
+    }
+
+    FieldPlan(Field field, KronosAccessor accessor, int accessorIndex, TypeConverter<Object> converter,
+              boolean annotated, boolean dynamic, Class<?> timeFreeType, CompiledFormat format, int componentIndex,
+              TypePlan valuePlan) {
+        this(field, null, null, accessor,
+                accessor instanceof KronosAccessor.Writable ? (KronosAccessor.Writable) accessor : null,
+                accessorIndex, accessor instanceof KronosAccessor.Writable, converter, annotated, dynamic,
+                timeFreeType, format, componentIndex, valuePlan);
+    }
+
+    private FieldPlan(Field field, MethodHandle getter, MethodHandle setter, KronosAccessor accessor,
+                      KronosAccessor.Writable writer, int accessorIndex, boolean writable,
+                      TypeConverter<Object> converter, boolean annotated,
+                      boolean dynamic, Class<?> timeFreeType, CompiledFormat format, int componentIndex,
+                      TypePlan valuePlan) {
+        this.field = field;
+        this.getter = getter;
+        this.setter = setter;
+        this.accessor = accessor;
+        this.writer = writer;
+        this.accessorIndex = accessorIndex;
+        this.writable = writable;
+        this.converter = converter;
+        this.annotated = annotated;
+        this.dynamic = dynamic;
+        this.timeFreeType = timeFreeType;
+        this.format = format;
+        this.componentIndex = componentIndex;
+        this.valuePlan = valuePlan;
+    }
+
+    public String getName() { return field.getName(); }
+    public Class<?> getDeclaredType() { return field.getType(); }
+    public Class<?> getDeclaringClass() { return field.getDeclaringClass(); }
+
+    /**
+     * 预先解析的转换器，声明类型不确定时为null，运行时再按值的类型分派
+     */
+    public TypeConverter<Object> getConverter() { return converter; }
+
+    /**
+     * 字段是否标注了@Time
+     */
+    public boolean isAnnotated() { return annotated; }
+
+    /**
+     * 声明类型为Object、接口或抽象类时，需要按运行时的值判断是否处理
+     */
+    public boolean isDynamic() { return dynamic; }
+
+    /**
+     * 经类型分析确认不含时间数据的声明类型，值恰好是该类型时整棵子树跳过，可能为null
+     */
+    public Class<?> getTimeFreeType() { return timeFreeType; }
+
+    /**
+     * @Time(format)指定的格式，未指定时为null，使用全局默认格式
+     */
+    public CompiledFormat getFormat() { return format; }
+
+    /**
+     * record组件在规范构造器中的位置，普通字段为-1
+     */
+    public int getComponentIndex() { return componentIndex; }
+
+    /**
+     * 按字段声明类型编译的遍历计划，值的类型与声明不一致时回退到按运行时类型分派
+     */
+    public TypePlan getValuePlan() { return valuePlan; }
+
+    public boolean isWritable() { return writable; }
+
+    /**
+     * 是否通过编译期生成的访问器读写
+     */
+    public boolean isGenerated() { return accessor != null; }
+
+    public Object get(Object target) {
+        if (accessor != null) {
+            return accessor.get(target, accessorIndex);
+        }
+        try {
+            return (Object) getter.invokeExact(target);
+        } catch (Throwable ex) {
+            ReflectionUtils.rethrowRuntimeException(ex);
+            return null;
+        }
+    }
+
+    public void set(Object target, Object value) {
+        if (writer != null) {
+            writer.set(target, accessorIndex, value);
+            return;
+        }
+        try {
+            setter.invokeExact(target, value);
+        } catch (Throwable ex) {
+            ReflectionUtils.rethrowRuntimeException(ex);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return field.getDeclaringClass().getSimpleName() + "." + field.getName();
+    }
+}
@@ -0,0 +1,64 @@
+package com.kronos.spring.support;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @author zhangyh
+ * @Date 2026/10/19 10:10
+ * @desc 按命名约定查找kronos-processor生成的访问器，每个类只查找一次，找不到时回退到反射
+ */
+@Slf4j
+final class GeneratedAccessors {
+
+    // ClassValue不能保存null，没有生成访问器的类记为NONE，避免重复加载类
+    private static final Object NONE = new Object();
+
+    private final ClassValue<Object> accessors = new ClassValue<Object>() {
+        @Override
+        protected Object computeValue(Class<?> type) {
+            KronosAccessor accessor = load(type);
+            return accessor != null ? accessor : NONE;
+        }
+    };
+
+    /**
+     * 查找类的访问器，不存在时返回null
+     */
+    KronosAccessor find(Class<?> type) {
+        Object accessor = accessors.get(type);
+        return accessor == NONE ? null : (KronosAccessor) accessor;
+    }
+
+    /**
+     * 字段在访问器中的下标，不存在时返回-1
+     */
+    static int indexOf(KronosAccessor accessor, String fieldName) {
+        String[] names = accessor.fieldNames();
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(fieldName)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static KronosAccessor load(Class<?> type) {
+        ClassLoader classLoader = type.getClassLoader();
+        if (classLoader == null) {
+            return null;
+        }
+        try {
+            Class<?> accessorType = Class.forName(type.getName() + KronosAccessor.SUFFIX, true, classLoader);
+            if (!KronosAccessor.class.isAssignableFrom(accessorType)) {
+                return null;
+            }
+            KronosAccessor accessor = (KronosAccessor) accessorType.getDeclaredConstructor().newInstance();
+            return accessor.targetType() == type ? accessor : null;
+        } catch (ClassNotFoundException e) {
+            return null;
+        } catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+            log.debug("无法加载生成的访问器: " + type.getName(), e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.kronos.spring.support;
+
+/**
+ * @author zhangyh
+ * @Date 2026/10/18 10:52
+ * @desc 基于引用相等的开放寻址集合，不调用对象的hashCode/equals
+ */
+final class IdentityObjectSet {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private Object[] table;
+    private int      mask;
+    private int      size;
+
+    IdentityObjectSet(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < expectedSize * 2) {
+            capacity <<= 1;
+        }
+        this.table = new Object[capacity];
+        this.mask = capacity - 1;
+    }
+
+    boolean contains(Object obj) {
+        Object[] tab = table;
+        int i = indexOf(obj, mask);
+        Object entry;
+        while ((entry = tab[i]) != null) {
+            if (entry == obj) {
+                return true;
+            }
+            i = (i + 1) & mask;
+        }
+        return false;
+    }
+
+    boolean add(Object obj) {
+        if ((size + 1) * 2 > table.length) {
+            resize();
+        }
+        Object[] tab = table;
+        int i = indexOf(obj, mask);
+        Object entry;
+        while ((entry = tab[i]) != null) {
+            if (entry == obj) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+        tab[i] = obj;
+        size++;
+        return true;
+    }
+
+    boolean remove(Object obj) {
+        Object[] tab = table;
+        int i = indexOf(obj, mask);
+        Object entry;
+        while ((entry = tab[i]) != obj) {
+            if (entry == null) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+        tab[i] = null;
+        size--;
+
+        // 向后移动冲突链上的元素，保持线性探测的连续性，不需要墓碑标记
+        int j = i;
+        while ((entry = tab[j = (j + 1) & mask]) != null) {
+            int k = indexOf(entry, mask);
+            boolean inPlace = i <= j ? (i < k && k <= j) : (i < k || k <= j);
+            if (!inPlace) {
+                tab[i] = entry;
+                tab[j] = null;
+                i = j;
+            }
+        }
+        return true;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void resize() {
+        Object[] oldTable = table;
+        Object[] newTable = new Object[oldTable.length << 1];
+        int newMask = newTable.length - 1;
+        for (Object entry : oldTable) {
+            if (entry != null) {
+                int i = indexOf(entry, newMask);
+                while (newTable[i] != null) {
+                    i = (i + 1) & newMask;
+                }
+                newTable[i] = entry;
+            }
+        }
+        table = newTable;
+        mask = newMask;
+    }
+
+    private static int indexOf(Object obj, int mask) {
+        int h = System.identityHashCode(obj) * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+}
@@ -0,0 +1,47 @@
+package com.kronos.spring.support;
+
+/**
+ * @author zhangyh
+ * @Date 2026/10/19 10:10
+ * @desc 编译期生成的字段访问器，由kronos-processor为可能承载时间数据的类生成，类名为目标类名加SUFFIX，
+ * 与目标类位于同一个包中。存在时ObjectProcessor通过它直接读写字段，不再使用反射。
+ * 普通类的访问器实现Writable，record的访问器实现Instantiable
+ */
+public interface KronosAccessor {
+
+    /**
+     * 生成类名的后缀，例如com.example.OrderDto$$KronosAccessor
+     */
+    String SUFFIX = "$$KronosAccessor";
+
+    /**
+     * 访问的目标类
+     */
+    Class<?> targetType();
+
+    /**
+     * 可以访问的字段名称，下标与get/set的index一致，record按组件顺序排列
+     */
+    String[] fieldNames();
+
+    Object get(Object target, int index);
+
+    /**
+     * 普通类的访问器，只包含可以读写的字段。final字段和没有getter/setter的私有字段不生成，ObjectProcessor对这些字段使用反射
+     */
+    interface Writable extends KronosAccessor {
+
+        void set(Object target, int index, Object value);
+    }
+
+    /**
+     * record的访问器，组件不可写入，通过规范构造器创建新的实例
+     */
+    interface Instantiable extends KronosAccessor {
+
+        /**
+         * 参数按组件顺序排列
+         */
+        Object newInstance(Object[] components);
+    }
+}
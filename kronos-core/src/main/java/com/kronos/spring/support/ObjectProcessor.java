@@ -1,12 +1,28 @@
 package com.kronos.spring.support;
 
 import com.kronos.spring.annotation.Time;
+import com.kronos.spring.jfr.SlowConverterEvent;
+import com.kronos.spring.support.format.CompiledFormat;
+import com.kronos.spring.support.format.DateTimeFormatRegistry;
+import jdk.jfr.EventType;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpEntity;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
-import java.time.*;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.RecordComponent;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 /**
  * @author zhangyh
@@ -15,193 +31,715 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 @Slf4j
 public class ObjectProcessor {
-    private final Map<Class<?>, TypeConverter<?>> typeConverters;
+    private final TypeConverterRegistry          typeConverters;
 
-    // 缓存反射信息，提高性能
-    private final Map<Class<?>, List<Field>>      fieldCache;
+    // 按类缓存编译好的转换计划，热路径上不再触碰反射元数据
+    private final Map<Class<?>, ConversionPlan>   planCache;
+
+    // 转换计划缓存的命中统计，开启指标后才计数
+    private final CacheStats                     planStats;
+
+    // 按方法缓存参数和返回值的类型计划，最后一个元素为返回值
+    private final Map<Method, TypePlan[]>         methodPlanCache;
+
+    // 类型图可达性分析，跳过不可能包含时间数据的子树
+    private final TimeTypeAnalyzer               typeAnalyzer;
+
+    // 预编译的格式注册表，@Time(format)在编译计划时绑定到字段
+    private final DateTimeFormatRegistry         formatRegistry;
+
+    // 按类缓存集合是否不可修改，不可修改的集合在元素变化时复制一份新的
+    private final Map<Class<?>, Boolean>          unmodifiableTypes;
+
+    // kronos-processor编译期生成的访问器，存在时替代反射
+    private final GeneratedAccessors             generatedAccessors;
+
+    // 大集合的并行转换，未开启时parallelPool为null
+    private final ForkJoinPool                   parallelPool;
+    private final int                            parallelThreshold;
+
+    // 严格模式，只转换标注@Time的字符串和声明为时间类型的值
+    private final boolean                        strict;
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType RECORD_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+    // 慢转换事件默认关闭，每个值转换前只读取一次开关，没有录制开启时不创建事件对象
+    private static final EventType SLOW_CONVERTER_EVENT = EventType.getEventType(SlowConverterEvent.class);
+
+    // 每个线程至少分到的元素数量，避免分块过细
+    private static final int MIN_CHUNK_SIZE = 1024;
+
+    private static final String[] UNMODIFIABLE_PREFIXES = {
+            "java.util.ImmutableCollections$",
+            "java.util.Collections$Unmodifiable",
+            "java.util.Collections$Empty",
+            "java.util.Collections$Singleton",
+            "com.google.common.collect.Immutable"
+    };
 
     public ObjectProcessor(Map<Class<?>, TypeConverter<?>> typeConverters) {
+        this(typeConverters, new DateTimeFormatRegistry());
+    }
+
+    public ObjectProcessor(Map<Class<?>, TypeConverter<?>> typeConverters, DateTimeFormatRegistry formatRegistry) {
+        this(typeConverters, formatRegistry, null, 0);
+    }
+
+    /**
+     * @param parallelPool 并行转换使用的线程池，为null时不并行
+     * @param parallelThreshold RandomAccess的List和数组达到该大小时才并行转换
+     */
+    public ObjectProcessor(Map<Class<?>, TypeConverter<?>> typeConverters, DateTimeFormatRegistry formatRegistry,
+                           ForkJoinPool parallelPool, int parallelThreshold) {
+        this(new TypeConverterRegistry(typeConverters), formatRegistry, parallelPool, parallelThreshold);
+    }
+
+    public ObjectProcessor(TypeConverterRegistry typeConverters, DateTimeFormatRegistry formatRegistry,
+                           ForkJoinPool parallelPool, int parallelThreshold) {
+        this(typeConverters, formatRegistry, parallelPool, parallelThreshold, false);
+    }
+
+    /**
+     * @param strict 严格模式，字符串只在字段或参数标注@Time时转换，其余的值只在声明类型可转换时转换
+     */
+    public ObjectProcessor(TypeConverterRegistry typeConverters, DateTimeFormatRegistry formatRegistry,
+                           ForkJoinPool parallelPool, int parallelThreshold, boolean strict) {
         this.typeConverters = typeConverters;
-        this.fieldCache = new ConcurrentHashMap<>();
+        this.planCache = new ConcurrentHashMap<>();
+        this.planStats = new CacheStats();
+        this.methodPlanCache = new ConcurrentHashMap<>();
+        this.typeAnalyzer = new TimeTypeAnalyzer(typeConverters, strict);
+        this.formatRegistry = formatRegistry;
+        this.unmodifiableTypes = new ConcurrentHashMap<>();
+        this.generatedAccessors = new GeneratedAccessors();
+        this.parallelPool = parallelThreshold > 0 ? parallelPool : null;
+        this.parallelThreshold = parallelThreshold;
+        this.strict = strict;
     }
 
     /**
-     * 处理对象的入口方法
+     * 处理对象的入口方法，集合、Map和数组的元素按运行时类型分派
      */
     public Object process(Object object, ConversionContext context) {
-        if (object == null) {
-            return null;
+        // 严格模式下没有声明类型的入口把根对象的运行时类型当作声明类型，字符串没有@Time时不转换
+        if (strict && object != null && !(object instanceof String) && typeConverters.supports(object.getClass())) {
+            return processSimpleType(object, context);
+        }
+        return process(object, TypePlan.DYNAMIC, context);
+    }
+
+    /**
+     * 按声明类型的计划处理对象，值的运行时类型与计划不一致时回退到按运行时类型分派。
+     * 对象图使用显式栈遍历，层数只受预算限制，不会因为嵌套过深导致StackOverflowError
+     */
+    public Object process(Object object, TypePlan typePlan, ConversionContext context) {
+        Object result = step(object, typePlan, context);
+        if (!(result instanceof Frame)) {
+            return result;
+        }
+
+        ArrayDeque<Frame> stack = new ArrayDeque<>();
+        stack.push((Frame) result);
+        while (true) {
+            Frame frame = stack.peek();
+            // 超出预算停止转换时不再进入新的子节点，逐层收尾，已经转换的值照常回写
+            if (!context.isStopped() && frame.next(context)) {
+                Object child = step(frame.child, frame.childPlan, context);
+                if (child instanceof Frame) {
+                    stack.push((Frame) child);
+                } else {
+                    frame.accept(child, context);
+                }
+                continue;
+            }
+            stack.pop();
+            Object done = frame.finish(context);
+            if (stack.isEmpty()) {
+                return done;
+            }
+            stack.peek().accept(done, context);
+        }
+    }
+
+    /**
+     * 处理单个值：简单类型直接转换，需要遍历的自定义对象、集合、Map和数组返回一个栈帧
+     */
+    private Object step(Object object, TypePlan typePlan, ConversionContext context) {
+        if (object == null || typePlan.isTimeFree()) {
+            return object;
+        }
+        switch (typePlan.getKind()) {
+            case CONVERTER:
+                if (object.getClass() == typePlan.getType()) {
+                    return convert(typePlan.getConverter(), object, context.getFormat(), context);
+                }
+                break;
+            case OBJECT:
+                if (object.getClass() == typePlan.getType()) {
+                    return enterObject(object, getPlan(typePlan.getType()), context);
+                }
+                break;
+            case COLLECTION:
+                if (object instanceof Collection) {
+                    return enterContainer(object, typePlan.getElement(), context);
+                }
+                break;
+            case MAP:
+                if (object instanceof Map) {
+                    return enterContainer(object, typePlan.getElement(), context);
+                }
+                break;
+            case ARRAY:
+                if (object instanceof Object[]) {
+                    return enterContainer(object, typePlan.getElement(), context);
+                }
+                break;
+            default:
+                break;
         }
 
         Class<?> type = object.getClass();
 
-        // 基础类型处理
+        // 基础类型处理，严格模式只转换声明类型可转换的值（包括声明类型的子类），按运行时类型分派到的值原样返回
         if (isSimpleType(type)) {
-            return processSimpleType(object, context);
+            return strict && typePlan.getKind() != TypePlan.Kind.CONVERTER ? object : processSimpleType(object, context);
+        }
+
+        // 集合、Map和数组的元素按运行时类型分派
+        if (object instanceof Collection || object instanceof Map || type.isArray()) {
+            return enterContainer(object, TypePlan.DYNAMIC, context);
+        }
+
+        // 自定义对象处理
+        return enterObject(object, getPlan(type), context);
+    }
+
+    private Object enterObject(Object object, ConversionPlan plan, ConversionContext context) {
+        // 没有可转换字段的自定义对象直接跳过，不参与循环引用检测
+        if (plan.isEmpty()) {
+            return object;
         }
 
         // 防止循环引用
-        if (context.isProcessed(object)) {
+        if (context.isProcessed(object) || !context.enterNode()) {
             return object;
         }
 
         context.markProcessed(object);
-        try {
-            // 集合类型处理
-            if (object instanceof Collection) {
-                return processCollection((Collection<?>) object, context);
-            }
-
-            // Map类型处理
-            if (object instanceof Map) {
-                return processMap((Map<?, ?>) object, context);
-            }
+        countNode(context);
+        return new ObjectFrame(object, plan);
+    }
 
-            // 数组类型处理
-            if (type.isArray()) {
-                return processArray(object, context);
-            }
+    /**
+     * 进入集合、Map和数组，element为元素（Map为value）的计划，达到并行阈值的List和数组在这里整体转换完成
+     */
+    @SuppressWarnings("unchecked")
+    private Object enterContainer(Object container, TypePlan element, ConversionContext context) {
+        if (container.getClass().isArray() && container.getClass().getComponentType().isPrimitive()) {
+            return container; // 基础类型数组不处理
+        }
 
-            // 自定义对象处理
-            return processCustomObject(object, context);
+        // 防止循环引用
+        if (context.isProcessed(container) || !context.enterNode()) {
+            return container;
+        }
 
-        } finally {
-            context.unmarkProcessed(object);
+        context.markProcessed(container);
+        countNode(context);
+        if (container instanceof List) {
+            List<Object> list = (List<Object>) container;
+            if (list instanceof RandomAccess && shouldParallelize(list.size())) {
+                try {
+                    Object[] results = new Object[list.size()];
+                    convertInParallel(list, results, element, context);
+                    return applyListResults(list, results);
+                } finally {
+                    context.unmarkProcessed(container);
+                }
+            }
+            return new ListFrame(list, element);
+        }
+        if (container instanceof Collection) {
+            return new ElementsFrame((Collection<Object>) container, element);
+        }
+        if (container instanceof Map) {
+            return new MapFrame((Map<Object, Object>) container, element);
         }
+        Object[] array = (Object[]) container;
+        if (shouldParallelize(array.length)) {
+            try {
+                convertInParallel(null, array, element, context);
+                return array;
+            } finally {
+                context.unmarkProcessed(container);
+            }
+        }
+        return new ArrayFrame(array, element);
     }
 
     /**
      * 处理简单类型（包括时间类型）
      */
-    @SuppressWarnings("unchecked")
     private Object processSimpleType(Object object, ConversionContext context) {
-        TypeConverter<Object> converter = (TypeConverter<Object>) typeConverters.get(object.getClass());
+        TypeConverter<Object> converter = typeConverters.find(object.getClass());
         if (converter != null) {
-            return converter.convert(object, context.getFromZone(), context.getToZone(), context.getDefaultFormat());
+            return convert(converter, object, context.getFormat(), context);
         }
         return object;
     }
 
     /**
-     * 处理集合类型
+     * 调用转换器，开启指标时统计字符串的解析结果，超过阈值的调用记录为JFR事件（默认关闭）
      */
-    @SuppressWarnings("unchecked")
-    private Object processCollection(Collection<?> collection, ConversionContext context) {
-        if (collection.isEmpty()) {
-            return collection;
+    private static Object convert(TypeConverter<Object> converter, Object value, CompiledFormat format,
+                                  ConversionContext context) {
+        Object converted = SLOW_CONVERTER_EVENT.isEnabled()
+                ? convertTimed(converter, value, format, context)
+                : converter.convert(value, context.getZonePair(), format);
+        ConversionStats stats = context.getStats();
+        if (stats != null && value instanceof String) {
+            stats.stringConverted(converted != value);
+        }
+        return converted;
+    }
+
+    private static Object convertTimed(TypeConverter<Object> converter, Object value, CompiledFormat format,
+                                       ConversionContext context) {
+        SlowConverterEvent event = new SlowConverterEvent();
+        event.begin();
+        Object converted = converter.convert(value, context.getZonePair(), format);
+        if (event.shouldCommit()) {
+            event.converter = converter.getClass();
+            event.valueType = value.getClass();
+            event.format = format.getPattern();
+            event.commit();
+        }
+        return converted;
+    }
+
+    private static void countNode(ConversionContext context) {
+        ConversionStats stats = context.getStats();
+        if (stats != null) {
+            stats.nodeVisited();
         }
+    }
 
-        if (collection instanceof List) {
-            List<Object> list = (List<Object>) collection;
-            for (int i = 0; i < list.size(); i++) {
-                list.set(i, process(list.get(i), context));
+    /**
+     * 按并行转换的结果回写List，语义与顺序处理一致
+     */
+    private Object applyListResults(List<Object> list, Object[] results) {
+        boolean unmodifiable = isUnmodifiable(list);
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] == list.get(i)) {
+                continue;
             }
-        } else if (collection instanceof Set) {
-            Set<Object> set = (Set<Object>) collection;
-            Set<Object> newSet = createSimilarSet(set);
-            for (Object item : set) {
-                newSet.add(process(item, context));
+            if (!unmodifiable) {
+                try {
+                    list.set(i, results[i]);
+                    continue;
+                } catch (UnsupportedOperationException e) {
+                    markUnmodifiable(list);
+                }
             }
-            set.clear();
-            set.addAll(newSet);
-        } else {
-            // 其他集合类型，创建新集合
-            Collection<Object> newCollection = createSimilarCollection(collection);
-            for (Object item : collection) {
-                newCollection.add(process(item, context));
+            return Collections.unmodifiableList(Arrays.asList(results));
+        }
+        return list;
+    }
+
+    private boolean shouldParallelize(int size) {
+        // 已经在并行任务中的子集合不再拆分
+        return parallelPool != null && size >= parallelThreshold && ForkJoinTask.getPool() != parallelPool;
+    }
+
+    /**
+     * 分块并行转换，source为null时就地转换target数组
+     */
+    private void convertInParallel(List<?> source, Object[] target, TypePlan element, ConversionContext context) {
+        int chunkSize = Math.max(MIN_CHUNK_SIZE, target.length / (parallelPool.getParallelism() * 4));
+        parallelPool.invoke(new ChunkedConversionTask(this, source, target, 0, target.length, chunkSize,
+                element, context, TimeZoneContextHolder.getContext()));
+    }
+
+    /**
+     * 是否为不可修改的集合，已知的JDK和Guava不可变集合按类名识别，其余在第一次修改失败后记录
+     */
+    private boolean isUnmodifiable(Object container) {
+        Class<?> type = container.getClass();
+        Boolean unmodifiable = unmodifiableTypes.get(type);
+        if (unmodifiable == null) {
+            unmodifiable = Boolean.FALSE;
+            for (String prefix : UNMODIFIABLE_PREFIXES) {
+                if (type.getName().startsWith(prefix)) {
+                    unmodifiable = Boolean.TRUE;
+                    break;
+                }
             }
-            return newCollection;
+            unmodifiableTypes.putIfAbsent(type, unmodifiable);
         }
+        return unmodifiable;
+    }
 
-        return collection;
+    private void markUnmodifiable(Object container) {
+        unmodifiableTypes.put(container.getClass(), Boolean.TRUE);
+    }
+
+    private static int capacityFor(int size) {
+        return size < 3 ? size + 1 : (int) (size / 0.75f) + 1;
     }
 
     /**
-     * 处理Map类型
+     * 遍历栈上的一个节点：next给出下一个需要处理的子值，子值处理完成后通过accept回写，
+     * 全部子值处理完成后finish离开节点并返回节点的结果（不可修改的容器和record可能是新的实例）
      */
-    @SuppressWarnings("unchecked")
-    private Object processMap(Map<?, ?> map, ConversionContext context) {
-        if (map.isEmpty()) {
-            return map;
+    private abstract class Frame {
+        final Object source;
+        Object       child;
+        TypePlan     childPlan;
+
+        Frame(Object source) {
+            this.source = source;
         }
 
-        Map<Object, Object> objectMap = (Map<Object, Object>) map;
-        Map<Object, Object> processedEntries = new HashMap<>();
+        /**
+         * 准备下一个子值，没有时返回false
+         */
+        abstract boolean next(ConversionContext context);
+
+        abstract void accept(Object result, ConversionContext context);
 
-        for (Map.Entry<Object, Object> entry : objectMap.entrySet()) {
-            Object processedValue = process(entry.getValue(), context);
-            processedEntries.put(entry.getKey(), processedValue);
+        final Object finish(ConversionContext context) {
+            context.unmarkProcessed(source);
+            return complete(context);
         }
 
-        objectMap.putAll(processedEntries);
-        return map;
+        abstract Object complete(ConversionContext context);
     }
 
     /**
-     * 处理数组类型
+     * 自定义对象，按预编译的计划逐个字段转换，有转换器的字段直接在next中转换
      */
-    private Object processArray(Object array, ConversionContext context) {
-        if (array.getClass().getComponentType().isPrimitive()) {
-            return array; // 基础类型数组不处理
+    private final class ObjectFrame extends Frame {
+        private final ConversionPlan plan;
+        private final FieldPlan[]    fields;
+        private int                  index;
+
+        // 正在处理的字段及其原值，字段指定了格式时整棵子树都使用该格式，处理完成后恢复
+        private FieldPlan            current;
+        private Object               currentValue;
+        private CompiledFormat       previousFormat;
+        private boolean              formatSwitched;
+
+        // record的字段无法回写，有字段变化时收集全部组件后通过规范构造器重建
+        private Object[]             components;
+
+        ObjectFrame(Object object, ConversionPlan plan) {
+            super(object);
+            this.plan = plan;
+            this.fields = plan.fields();
+        }
+
+        @Override
+        boolean next(ConversionContext context) {
+            while (index < fields.length) {
+                FieldPlan field = fields[index++];
+                Object fieldValue = field.get(source);
+                if (fieldValue == null || fieldValue.getClass() == field.getTimeFreeType()) {
+                    continue;
+                }
+
+                TypeConverter<Object> converter = field.getConverter();
+                CompiledFormat format = field.getFormat();
+                if (converter != null) {
+                    apply(field, fieldValue, convert(converter, fieldValue,
+                            format != null ? format : context.getFormat(), context), context);
+                    continue;
+                }
+                if (field.isDynamic() && !shouldProcessValue(field, fieldValue)) {
+                    continue;
+                }
+
+                current = field;
+                currentValue = fieldValue;
+                if (format != null) {
+                    previousFormat = context.switchFormat(format);
+                    formatSwitched = true;
+                }
+                child = fieldValue;
+                childPlan = field.getValuePlan();
+                return true;
+            }
+            return false;
         }
 
-        Object[] objectArray = (Object[]) array;
-        for (int i = 0; i < objectArray.length; i++) {
-            objectArray[i] = process(objectArray[i], context);
+        @Override
+        void accept(Object result, ConversionContext context) {
+            if (formatSwitched) {
+                context.switchFormat(previousFormat);
+                formatSwitched = false;
+            }
+            apply(current, currentValue, result, context);
         }
 
-        return array;
+        /**
+         * 只有值发生变化时才回写
+         */
+        private void apply(FieldPlan field, Object fieldValue, Object convertedValue, ConversionContext context) {
+            if (convertedValue == fieldValue) {
+                return;
+            }
+            ConversionStats stats = context.getStats();
+            if (stats != null) {
+                stats.fieldConverted();
+            }
+            if (plan.isRecord()) {
+                if (components == null) {
+                    components = plan.readComponents(source);
+                }
+                components[field.getComponentIndex()] = convertedValue;
+            } else if (field.isWritable()) {
+                field.set(source, convertedValue);
+            }
+        }
+
+        @Override
+        Object complete(ConversionContext context) {
+            return components == null ? source : plan.newRecord(components);
+        }
     }
 
     /**
-     * 处理自定义对象
+     * List，可修改的List原地替换变化的元素，不可修改的List在第一个元素变化时复制
      */
-    private Object processCustomObject(Object object, ConversionContext context) {
-        Class<?> type = object.getClass();
-        List<Field> fields = getFieldsWithCache(type);
+    private final class ListFrame extends Frame {
+        private final List<Object> list;
+        private final TypePlan     element;
+        private boolean            unmodifiable;
+        private Object[]           copy;
+        private int                index;
 
-        for (Field field : fields) {
-            try {
-                field.setAccessible(true);
-                Object fieldValue = field.get(object);
+        ListFrame(List<Object> list, TypePlan element) {
+            super(list);
+            this.list = list;
+            this.element = element;
+            this.unmodifiable = isUnmodifiable(list);
+        }
 
-                if (fieldValue == null) {
-                    continue;
+        @Override
+        boolean next(ConversionContext context) {
+            if (index >= list.size()) {
+                return false;
+            }
+            child = list.get(index);
+            childPlan = element;
+            return true;
+        }
+
+        @Override
+        void accept(Object processed, ConversionContext context) {
+            int i = index++;
+            if (copy != null) {
+                copy[i] = processed;
+                return;
+            }
+            if (processed == child) {
+                return;
+            }
+            if (!unmodifiable) {
+                try {
+                    list.set(i, processed);
+                    return;
+                } catch (UnsupportedOperationException e) {
+                    markUnmodifiable(list);
+                    unmodifiable = true;
                 }
+            }
+            copy = list.toArray();
+            copy[i] = processed;
+        }
 
-                // 检查是否需要处理时区转换
-                if (shouldProcessField(field, fieldValue)) {
-                    Object convertedValue = process(fieldValue, context);
-                    field.set(object, convertedValue);
+        @Override
+        Object complete(ConversionContext context) {
+            return copy == null ? list : Collections.unmodifiableList(Arrays.asList(copy));
+        }
+    }
+
+    /**
+     * Set和其他集合，按迭代顺序处理元素，有元素变化时Set整体替换内容（不可修改时返回副本），其他集合创建新集合
+     */
+    private final class ElementsFrame extends Frame {
+        private final Collection<Object> collection;
+        private final Iterator<Object>   iterator;
+        private final TypePlan           element;
+        private Object[]                 processed;
+        private int                      index;
+
+        ElementsFrame(Collection<Object> collection, TypePlan element) {
+            super(collection);
+            this.collection = collection;
+            this.iterator = collection.iterator();
+            this.element = element;
+        }
+
+        @Override
+        boolean next(ConversionContext context) {
+            if (!iterator.hasNext()) {
+                return false;
+            }
+            child = iterator.next();
+            childPlan = element;
+            return true;
+        }
+
+        @Override
+        void accept(Object converted, ConversionContext context) {
+            if (converted != child && processed == null) {
+                processed = collection.toArray();
+            }
+            if (processed != null) {
+                processed[index] = converted;
+            }
+            index++;
+        }
+
+        @Override
+        Object complete(ConversionContext context) {
+            if (processed == null) {
+                return collection;
+            }
+            if (!(collection instanceof Set)) {
+                Collection<Object> newCollection = createSimilarCollection(collection);
+                newCollection.addAll(Arrays.asList(processed));
+                return newCollection;
+            }
+            if (!isUnmodifiable(collection)) {
+                try {
+                    collection.clear();
+                    collection.addAll(Arrays.asList(processed));
+                    return collection;
+                } catch (UnsupportedOperationException e) {
+                    markUnmodifiable(collection);
                 }
+            }
+            Set<Object> copy = new LinkedHashSet<>(capacityFor(processed.length));
+            copy.addAll(Arrays.asList(processed));
+            return Collections.unmodifiableSet(copy);
+        }
+    }
+
+    /**
+     * Map，只处理value，不可修改的Map在value变化时返回新的副本
+     */
+    private final class MapFrame extends Frame {
+        private final Map<Object, Object>                 map;
+        private final Iterator<Map.Entry<Object, Object>> iterator;
+        private final TypePlan                            valuePlan;
+        private Object                                    key;
+        private Map<Object, Object>                       processedEntries;
 
-            } catch (IllegalAccessException e) {
-                // 记录日志但不中断处理
-                log.debug("无法访问字段: " + field.getName() + " in " + type.getName());
+        MapFrame(Map<Object, Object> map, TypePlan valuePlan) {
+            super(map);
+            this.map = map;
+            this.iterator = map.entrySet().iterator();
+            this.valuePlan = valuePlan;
+        }
+
+        @Override
+        boolean next(ConversionContext context) {
+            if (!iterator.hasNext()) {
+                return false;
             }
+            Map.Entry<Object, Object> entry = iterator.next();
+            key = entry.getKey();
+            child = entry.getValue();
+            childPlan = valuePlan;
+            return true;
         }
 
-        return object;
+        @Override
+        void accept(Object processedValue, ConversionContext context) {
+            if (processedValue != child) {
+                if (processedEntries == null) {
+                    processedEntries = new HashMap<>();
+                }
+                processedEntries.put(key, processedValue);
+            }
+        }
+
+        @Override
+        Object complete(ConversionContext context) {
+            if (processedEntries == null) {
+                return map;
+            }
+            if (!isUnmodifiable(map)) {
+                try {
+                    map.putAll(processedEntries);
+                    return map;
+                } catch (UnsupportedOperationException e) {
+                    markUnmodifiable(map);
+                }
+            }
+            Map<Object, Object> copy = new LinkedHashMap<>(capacityFor(map.size()));
+            copy.putAll(map);
+            copy.putAll(processedEntries);
+            return Collections.unmodifiableMap(copy);
+        }
+    }
+
+    /**
+     * 对象数组，元素原地替换
+     */
+    private final class ArrayFrame extends Frame {
+        private final Object[] array;
+        private final TypePlan element;
+        private int            index;
+
+        ArrayFrame(Object[] array, TypePlan element) {
+            super(array);
+            this.array = array;
+            this.element = element;
+        }
+
+        @Override
+        boolean next(ConversionContext context) {
+            if (index >= array.length) {
+                return false;
+            }
+            child = array[index];
+            childPlan = element;
+            return true;
+        }
+
+        @Override
+        void accept(Object result, ConversionContext context) {
+            array[index++] = result;
+        }
+
+        @Override
+        Object complete(ConversionContext context) {
+            return array;
+        }
     }
 
     /**
-     * 判断字段是否需要处理
+     * 声明类型无法确定的字段，按运行时的值判断是否需要处理
      */
-    private boolean shouldProcessField(Field field, Object fieldValue) {
+    private boolean shouldProcessValue(FieldPlan field, Object fieldValue) {
         // 有@Time注解的字段需要处理
-        if (field.isAnnotationPresent(Time.class)) {
+        if (field.isAnnotated()) {
             return true;
         }
 
         // 时间类型字段需要处理
-        if (isTimeType(fieldValue.getClass())) {
+        if (TimeTypeAnalyzer.isTimeType(fieldValue.getClass())) {
             return true;
         }
 
         // 集合、Map、自定义对象需要递归处理
         return fieldValue instanceof Collection ||
                 fieldValue instanceof Map ||
-                isCustomObject(fieldValue.getClass());
+                TimeTypeAnalyzer.isCustomObject(fieldValue.getClass());
     }
 
     /**
@@ -213,68 +751,350 @@ public class ObjectProcessor {
                 Number.class.isAssignableFrom(type) ||
                 Boolean.class.equals(type) ||
                 Character.class.equals(type) ||
-                typeConverters.containsKey(type);
+                typeConverters.supports(type);
+    }
+
+    /**
+     * 获取类的转换计划（带缓存）
+     */
+    public ConversionPlan getPlan(Class<?> type) {
+        ConversionPlan plan = planCache.get(type);
+        if (plan == null) {
+            planStats.miss();
+            plan = planCache.computeIfAbsent(type, this::buildPlan);
+        } else {
+            planStats.hit();
+        }
+        return plan;
+    }
+
+    /**
+     * 已缓存的转换计划
+     */
+    public Collection<ConversionPlan> getCachedPlans() {
+        return Collections.unmodifiableCollection(planCache.values());
+    }
+
+    /**
+     * 转换计划缓存的命中统计
+     */
+    public CacheStats getPlanStats() {
+        return planStats;
+    }
+
+    /**
+     * 已缓存类型计划的方法数量
+     */
+    public int getMethodPlanCacheSize() {
+        return methodPlanCache.size();
     }
 
     /**
-     * 判断是否为时间类型
+     * 方法第index个参数的类型计划
      */
-    private boolean isTimeType(Class<?> type) {
-        return LocalDateTime.class.isAssignableFrom(type) ||
-                LocalDate.class.isAssignableFrom(type) ||
-                LocalTime.class.isAssignableFrom(type) ||
-                ZonedDateTime.class.isAssignableFrom(type) ||
-                OffsetDateTime.class.isAssignableFrom(type) ||
-                Instant.class.isAssignableFrom(type) ||
-                Date.class.isAssignableFrom(type) ||
-                java.sql.Timestamp.class.isAssignableFrom(type) ||
-                java.sql.Date.class.isAssignableFrom(type) ||
-                java.sql.Time.class.isAssignableFrom(type);
+    public TypePlan getParameterPlan(Method method, int index) {
+        return getMethodPlans(method)[index];
     }
 
     /**
-     * 判断是否为自定义对象
+     * 方法返回值的类型计划
      */
-    private boolean isCustomObject(Class<?> type) {
-        return !type.isPrimitive() &&
-                !type.getName().startsWith("java.") &&
-                !type.getName().startsWith("javax.") &&
-                !type.isEnum() &&
-                !type.isArray();
+    public TypePlan getReturnPlan(Method method) {
+        return getMethodPlans(method)[method.getParameterCount()];
     }
 
     /**
-     * 获取类的所有字段（带缓存）
+     * 异步、流式和响应式返回值（CompletionStage、Stream、Mono、Flux等）中单个元素的类型计划，
+     * 取返回类型的第一个泛型参数，ResponseEntity先取body的类型
      */
-    private List<Field> getFieldsWithCache(Class<?> type) {
-        return fieldCache.computeIfAbsent(type, this::getAllFields);
+    public TypePlan getReturnElementPlan(Method method) {
+        return getMethodPlans(method)[method.getParameterCount() + 1];
     }
 
     /**
-     * 获取类的所有字段（包括父类）
+     * 获取方法参数和返回值的类型计划（带缓存），泛型按方法的声明类解析，无法解析的类型变量取其上界
      */
-    private List<Field> getAllFields(Class<?> type) {
-        List<Field> fields = new ArrayList<>();
-        Class<?> currentClass = type;
+    TypePlan[] getMethodPlans(Method method) {
+        TypePlan[] plans = methodPlanCache.get(method);
+        if (plans == null) {
+            plans = methodPlanCache.computeIfAbsent(method, this::buildMethodPlans);
+        }
+        return plans;
+    }
 
-        while (currentClass != null && currentClass != Object.class) {
-            Collections.addAll(fields, currentClass.getDeclaredFields());
-            currentClass = currentClass.getSuperclass();
+    private TypePlan[] buildMethodPlans(Method method) {
+        TypePlan[] plans = new TypePlan[method.getParameterCount() + 2];
+        Parameter[] parameters = method.getParameters();
+        for (int i = 0; i < parameters.length; i++) {
+            plans[i] = buildTypePlan(ResolvableType.forMethodParameter(method, i),
+                    AnnotatedElementUtils.hasAnnotation(parameters[i], Time.class));
+        }
+        ResolvableType returnType = ResolvableType.forMethodReturnType(method);
+        plans[parameters.length] = buildTypePlan(returnType);
+        if (HttpEntity.class.isAssignableFrom(returnType.toClass())) {
+            returnType = returnType.as(HttpEntity.class).getGeneric(0);
         }
+        plans[parameters.length + 1] = buildTypePlan(returnType.getGeneric(0));
+        return plans;
+    }
 
-        return fields;
+    /**
+     * 按声明类型编译遍历计划，自定义对象的转换计划在运行时按类取得，编译过程不会递归
+     */
+    public TypePlan buildTypePlan(ResolvableType type) {
+        return buildTypePlan(type, false);
     }
 
     /**
-     * 创建相似的Set集合
+     * @param annotated 字段或参数是否标注了@Time，严格模式下只有标注了@Time的字符串（包括集合元素）才会转换
      */
-    @SuppressWarnings("unchecked")
-    private Set<Object> createSimilarSet(Set<?> original) {
+    public TypePlan buildTypePlan(ResolvableType type, boolean annotated) {
+        Class<?> rawType = type.resolve();
+        if (rawType == null || rawType == Object.class) {
+            return strict ? TypePlan.TIME_FREE : TypePlan.DYNAMIC;
+        }
+        if (rawType.isPrimitive() || (strict && rawType == String.class && !annotated)) {
+            return TypePlan.TIME_FREE;
+        }
+        TypeConverter<Object> converter = typeConverters.find(rawType);
+        if (converter != null) {
+            return TypePlan.converter(rawType, converter);
+        }
+        if (rawType.isArray()) {
+            return rawType.getComponentType().isPrimitive() ? TypePlan.TIME_FREE
+                    : TypePlan.container(TypePlan.Kind.ARRAY, buildTypePlan(type.getComponentType(), annotated));
+        }
+        if (Collection.class.isAssignableFrom(rawType)) {
+            return TypePlan.container(TypePlan.Kind.COLLECTION, buildTypePlan(type.asCollection().getGeneric(0), annotated));
+        }
+        if (Map.class.isAssignableFrom(rawType)) {
+            // Map只处理value
+            return TypePlan.container(TypePlan.Kind.MAP, buildTypePlan(type.asMap().getGeneric(1), annotated));
+        }
+        // final类型的取值只能是它自己，没有转换器且字段图中没有时间数据时整体跳过
+        if (Modifier.isFinal(rawType.getModifiers())
+                && (!TimeTypeAnalyzer.isCustomObject(rawType) || !typeAnalyzer.mayContainTime(rawType))) {
+            return TypePlan.TIME_FREE;
+        }
+        if (rawType.isInterface() || Modifier.isAbstract(rawType.getModifiers())) {
+            return TypePlan.DYNAMIC;
+        }
+        return TypePlan.object(rawType);
+    }
+
+    /**
+     * 清空转换计划和类型分析缓存，注册新的转换器后调用
+     */
+    public void clearCaches() {
+        planCache.clear();
+        methodPlanCache.clear();
+        typeAnalyzer.clear();
+    }
+
+    /**
+     * 编译类的转换计划，只保留可能承载时间数据的字段（包括父类）
+     */
+    private ConversionPlan buildPlan(Class<?> type) {
+        List<FieldPlan> fields = new ArrayList<>();
+        if (TimeTypeAnalyzer.isCustomObject(type) && typeAnalyzer.mayContainTime(type)) {
+            if (type.isRecord()) {
+                return buildRecordPlan(type);
+            }
+            Class<?> currentClass = type;
+            while (currentClass != null && currentClass != Object.class) {
+                for (Field field : currentClass.getDeclaredFields()) {
+                    FieldPlan fieldPlan = buildFieldPlan(field, type, -1);
+                    if (fieldPlan != null) {
+                        fields.add(fieldPlan);
+                    }
+                }
+                currentClass = currentClass.getSuperclass();
+            }
+        }
+        return new ConversionPlan(type, fields);
+    }
+
+    /**
+     * 编译record的计划，组件按规范构造器的参数顺序读取，构造器句柄统一为(Object[])Object
+     */
+    private ConversionPlan buildRecordPlan(Class<?> type) {
+        RecordComponent[] components = type.getRecordComponents();
+        KronosAccessor accessor = generatedAccessors.find(type);
+        if (accessor instanceof KronosAccessor.Instantiable && hasComponentOrder(accessor, components)) {
+            return buildGeneratedRecordPlan(type, components, (KronosAccessor.Instantiable) accessor);
+        }
+        Class<?>[] parameterTypes = new Class<?>[components.length];
+        MethodHandle[] getters = new MethodHandle[components.length];
+        List<FieldPlan> fields = new ArrayList<>();
+        MethodHandle constructor;
         try {
-            return (Set<Object>) original.getClass().getDeclaredConstructor().newInstance();
-        } catch (Exception e) {
-            return new LinkedHashSet<>();
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            for (int i = 0; i < components.length; i++) {
+                Field field = type.getDeclaredField(components[i].getName());
+                parameterTypes[i] = components[i].getType();
+                FieldPlan fieldPlan = buildFieldPlan(field, type, i);
+                if (fieldPlan != null) {
+                    fields.add(fieldPlan);
+                }
+                field.setAccessible(true);
+                getters[i] = lookup.unreflectGetter(field).asType(GETTER_TYPE);
+            }
+            Constructor<?> canonical = type.getDeclaredConstructor(parameterTypes);
+            canonical.setAccessible(true);
+            constructor = lookup.unreflectConstructor(canonical)
+                    .asSpreader(Object[].class, parameterTypes.length)
+                    .asType(RECORD_TYPE);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.debug("无法访问record的规范构造器: " + type.getName());
+            return new ConversionPlan(type, Collections.emptyList());
+        }
+        return new ConversionPlan(type, fields, constructor, getters);
+    }
+
+    /**
+     * 通过生成的访问器读取组件和创建实例，不需要访问规范构造器
+     */
+    private ConversionPlan buildGeneratedRecordPlan(Class<?> type, RecordComponent[] components,
+                                                    KronosAccessor.Instantiable accessor) {
+        List<FieldPlan> fields = new ArrayList<>();
+        try {
+            for (int i = 0; i < components.length; i++) {
+                FieldPlan fieldPlan = buildFieldPlan(type.getDeclaredField(components[i].getName()), type, i);
+                if (fieldPlan != null) {
+                    fields.add(fieldPlan);
+                }
+            }
+        } catch (NoSuchFieldException e) {
+            return new ConversionPlan(type, Collections.emptyList());
         }
+        return new ConversionPlan(type, fields, accessor);
+    }
+
+    private static boolean hasComponentOrder(KronosAccessor accessor, RecordComponent[] components) {
+        String[] names = accessor.fieldNames();
+        if (names.length != components.length) {
+            return false;
+        }
+        for (int i = 0; i < names.length; i++) {
+            if (!names[i].equals(components[i].getName())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 编译单个字段的计划，字段不可能承载时间数据时返回null
+     * @param componentIndex record组件的位置，普通字段为-1
+     */
+    private FieldPlan buildFieldPlan(Field field, Class<?> owner, int componentIndex) {
+        if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+            return null;
+        }
+
+        Class<?> declaredType = field.getType();
+        Time time = field.getAnnotation(Time.class);
+        boolean annotated = time != null;
+        if (!mayHoldConvertibleValue(declaredType, annotated)) {
+            return null;
+        }
+
+        // 声明类型（含泛型参数）不可能包含时间数据时跳过整棵子树，
+        // 非final的自定义类型在运行时可能是子类，只跳过与声明类型完全一致的值
+        Class<?> timeFreeType = null;
+        if (!annotated && !typeAnalyzer.mayContainTime(ResolvableType.forField(field, owner))) {
+            if (!TimeTypeAnalyzer.isCustomObject(declaredType) || Modifier.isFinal(declaredType.getModifiers())) {
+                return null;
+            }
+            timeFreeType = declaredType;
+        }
+
+        // 声明类型为final且注册了转换器时，直接绑定转换器
+        TypeConverter<Object> converter = null;
+        if (Modifier.isFinal(declaredType.getModifiers()) && (annotated || declaredType != String.class)) {
+            converter = typeConverters.find(declaredType);
+        }
+        boolean dynamic = converter == null && !isContainerOrCustomObject(declaredType);
+        CompiledFormat format = annotated ? resolveFormat(time) : null;
+        TypePlan valuePlan = converter == null ? buildTypePlan(ResolvableType.forField(field, owner), annotated)
+                : TypePlan.DYNAMIC;
+
+        // 声明类有生成的访问器时直接使用，不需要setAccessible；
+        // 访问器中不包含final字段和没有getter/setter的私有字段，这些字段回退到反射
+        KronosAccessor accessor = generatedAccessors.find(field.getDeclaringClass());
+        int accessorIndex = accessor != null ? GeneratedAccessors.indexOf(accessor, field.getName()) : -1;
+        if (accessorIndex >= 0 && (componentIndex >= 0 || accessor instanceof KronosAccessor.Writable)) {
+            return new FieldPlan(field, accessor, accessorIndex, converter, annotated, dynamic, timeFreeType, format,
+                    componentIndex, valuePlan);
+        }
+
+        MethodHandle getter;
+        MethodHandle setter = null;
+        try {
+            field.setAccessible(true);
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            getter = lookup.unreflectGetter(field).asType(GETTER_TYPE);
+            // final实例字段（例如Lombok @Value）在setAccessible之后同样可以写入，record和隐藏类的final字段除外
+            if (!Modifier.isFinal(field.getModifiers()) || isFinalFieldWritable(field.getDeclaringClass())) {
+                setter = lookup.unreflectSetter(field).asType(SETTER_TYPE);
+            }
+        } catch (IllegalAccessException | RuntimeException e) {
+            // 记录日志但不中断处理
+            log.debug("无法访问字段: " + field.getName() + " in " + field.getDeclaringClass().getName());
+            return null;
+        }
+
+        // 不可变的值无法回写，字段没有意义，record组件通过重建实例回写
+        if (setter == null && componentIndex < 0 && (converter != null || !isContainerOrCustomObject(declaredType))) {
+            return null;
+        }
+        return new FieldPlan(field, getter, setter, converter, annotated, dynamic, timeFreeType, format, componentIndex,
+                valuePlan);
+    }
+
+    /**
+     * 解析@Time指定的格式，未指定时返回null
+     */
+    public CompiledFormat resolveFormat(Time time) {
+        return time == null || time.format().isEmpty() ? null : formatRegistry.get(time.format());
+    }
+
+    private static boolean isFinalFieldWritable(Class<?> declaringClass) {
+        return !declaringClass.isRecord() && !declaringClass.isHidden();
+    }
+
+    /**
+     * 根据字段的声明类型判断是否可能承载需要转换的值
+     */
+    private boolean mayHoldConvertibleValue(Class<?> declaredType, boolean annotated) {
+        if (declaredType.isPrimitive() || declaredType.isEnum()) {
+            return false;
+        }
+        if (declaredType == String.class) {
+            return annotated;
+        }
+        // 严格模式下声明为Object的字段不转换
+        if (strict && declaredType == Object.class) {
+            return false;
+        }
+        if (typeConverters.supports(declaredType) || isContainerOrCustomObject(declaredType)) {
+            return true;
+        }
+        if (declaredType.isArray()) {
+            return false;
+        }
+        // Object、接口、抽象类以及非final的时间类型在运行时可能持有其他子类型
+        return declaredType == Object.class ||
+                declaredType.isInterface() ||
+                Modifier.isAbstract(declaredType.getModifiers()) ||
+                (TimeTypeAnalyzer.isTimeType(declaredType) && !Modifier.isFinal(declaredType.getModifiers()));
+    }
+
+    private boolean isContainerOrCustomObject(Class<?> type) {
+        return Collection.class.isAssignableFrom(type) ||
+                Map.class.isAssignableFrom(type) ||
+                (type.isArray() && !type.getComponentType().isPrimitive()) ||
+                TimeTypeAnalyzer.isCustomObject(type);
     }
 
     /**
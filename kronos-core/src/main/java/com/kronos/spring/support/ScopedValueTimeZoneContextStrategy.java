@@ -0,0 +1,160 @@
+package com.kronos.spring.support;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.Callable;
+
+/**
+ * @author zhangyh
+ * @Date 2026/10/18 23:20
+ * @desc 基于ScopedValue的时区上下文，需要Java 21+（Java 21/22需要--enable-preview），
+ * 通过反射调用以便在Java 17上编译。每个作用域绑定一个只属于该请求的单元，
+ * TimeZoneInterceptor照常写入，作用域结束后随之失效，线程上不留下任何状态；
+ * 在StructuredTaskScope中派生的子线程会自动继承作用域
+ */
+final class ScopedValueTimeZoneContextStrategy implements TimeZoneContextStrategy {
+
+    private static final Object       SCOPE;
+    private static final MethodHandle IS_BOUND;
+    private static final MethodHandle GET;
+    private static final MethodHandle WHERE;
+    private static final MethodHandle RUN;
+    private static final Throwable    UNAVAILABLE_CAUSE;
+
+    static {
+        Object scope = null;
+        MethodHandle isBound = null;
+        MethodHandle get = null;
+        MethodHandle where = null;
+        MethodHandle run = null;
+        Throwable cause = null;
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            Class<?> scopedValueType = Class.forName("java.lang.ScopedValue");
+            Class<?> carrierType = Class.forName("java.lang.ScopedValue$Carrier");
+            scope = lookup.findStatic(scopedValueType, "newInstance", MethodType.methodType(scopedValueType))
+                    .invoke();
+            isBound = lookup.findVirtual(scopedValueType, "isBound", MethodType.methodType(boolean.class))
+                    .asType(MethodType.methodType(boolean.class, Object.class));
+            get = lookup.findVirtual(scopedValueType, "get", MethodType.methodType(Object.class))
+                    .asType(MethodType.methodType(Object.class, Object.class));
+            where = lookup.findStatic(scopedValueType, "where",
+                            MethodType.methodType(carrierType, scopedValueType, Object.class))
+                    .asType(MethodType.methodType(Object.class, Object.class, Object.class));
+            // Carrier.call的参数类型在各版本之间有变化，只使用稳定的run(Runnable)
+            run = lookup.findVirtual(carrierType, "run", MethodType.methodType(void.class, Runnable.class))
+                    .asType(MethodType.methodType(void.class, Object.class, Runnable.class));
+        } catch (Throwable e) {
+            cause = e;
+        }
+        SCOPE = scope;
+        IS_BOUND = isBound;
+        GET = get;
+        WHERE = where;
+        RUN = run;
+        UNAVAILABLE_CAUSE = cause;
+    }
+
+    ScopedValueTimeZoneContextStrategy() {
+        if (UNAVAILABLE_CAUSE != null) {
+            throw new IllegalStateException("当前JDK不支持ScopedValue，需要Java 21+（Java 21/22需要--enable-preview），"
+                    + "请改用THREAD_LOCAL", UNAVAILABLE_CAUSE);
+        }
+    }
+
+    /**
+     * 当前JDK是否支持ScopedValue
+     */
+    static boolean isAvailable() {
+        return UNAVAILABLE_CAUSE == null;
+    }
+
+    @Override
+    public TimeZoneContext getContext() {
+        Scope scope = currentScope();
+        return scope == null ? TimeZoneContext.EMPTY : scope.context;
+    }
+
+    @Override
+    public void setContext(TimeZoneContext context) {
+        Scope scope = currentScope();
+        if (scope == null) {
+            throw new IllegalStateException("当前线程没有绑定时区作用域，请通过TimeZoneScopeFilter或"
+                    + "TimeZoneContextHolder.runWith绑定后再设置时区");
+        }
+        scope.context = context == null ? TimeZoneContext.EMPTY : context;
+    }
+
+    @Override
+    public void clearContext() {
+        Scope scope = currentScope();
+        if (scope != null) {
+            scope.context = TimeZoneContext.EMPTY;
+        }
+    }
+
+    @Override
+    public <T> T callWith(TimeZoneContext context, Callable<T> task) throws Exception {
+        ScopedCall<T> call = new ScopedCall<>(task);
+        try {
+            Object carrier = (Object) WHERE.invokeExact(SCOPE, (Object) new Scope(context));
+            RUN.invokeExact(carrier, (Runnable) call);
+        } catch (Error | Exception e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+        return call.result();
+    }
+
+    private static Scope currentScope() {
+        try {
+            return (boolean) IS_BOUND.invokeExact(SCOPE) ? (Scope) (Object) GET.invokeExact(SCOPE) : null;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 一个作用域内的时区上下文，只在绑定它的请求内修改
+     */
+    private static final class Scope {
+
+        private volatile TimeZoneContext context;
+
+        Scope(TimeZoneContext context) {
+            this.context = context == null ? TimeZoneContext.EMPTY : context;
+        }
+    }
+
+    /**
+     * 把Callable适配为Runnable，异常在作用域外重新抛出
+     */
+    private static final class ScopedCall<T> implements Runnable {
+
+        private final Callable<T> task;
+        private T                 result;
+        private Exception         failure;
+
+        ScopedCall(Callable<T> task) {
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            try {
+                result = task.call();
+            } catch (Exception e) {
+                failure = e;
+            }
+        }
+
+        T result() throws Exception {
+            if (failure != null) {
+                throw failure;
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.kronos.spring.support;
+
+import java.util.concurrent.Callable;
+
+/**
+ * @author zhangyh
+ * @Date 2026/10/18 23:10
+ * @desc 基于ThreadLocal的时区上下文，请求结束时必须清除，否则线程池中的线程会带着上一个请求的时区
+ */
+final class ThreadLocalTimeZoneContextStrategy implements TimeZoneContextStrategy {
+
+    private final ThreadLocal<TimeZoneContext> context = new ThreadLocal<>();
+
+    @Override
+    public TimeZoneContext getContext() {
+        TimeZoneContext current = context.get();
+        return current == null ? TimeZoneContext.EMPTY : current;
+    }
+
+    @Override
+    public void setContext(TimeZoneContext context) {
+        if (context == null || context.isEmpty()) {
+            this.context.remove();
+        } else {
+            this.context.set(context);
+        }
+    }
+
+    @Override
+    public void clearContext() {
+        context.remove();
+    }
+
+    @Override
+    public <T> T callWith(TimeZoneContext context, Callable<T> task) throws Exception {
+        TimeZoneContext previous = this.context.get();
+        setContext(context);
+        try {
+            return task.call();
+        } finally {
+            setContext(previous);
+        }
+    }
+}
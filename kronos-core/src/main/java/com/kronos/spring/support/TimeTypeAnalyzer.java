@@ -0,0 +1,190 @@
+package com.kronos.spring.support;
+
+import com.kronos.spring.annotation.Time;
+import org.springframework.core.ResolvableType;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @author zhangyh
+ * @Date 2026/10/18 10:05
+ * @desc 类型图可达性分析，根据声明类型（包括List、Map的泛型参数）判断一个类型的子树是否可能包含时间数据
+ */
+public class TimeTypeAnalyzer {
+
+    private final TypeConverterRegistry           typeConverters;
+
+    // 严格模式下未标注@Time的字符串和声明为Object的位置不可能包含时间数据
+    private final boolean                         strict;
+
+    // 分析结果缓存，false表示该类及其子树不可能包含时间数据
+    private final Map<Class<?>, Boolean>          resultCache;
+
+    public TimeTypeAnalyzer(Map<Class<?>, TypeConverter<?>> typeConverters) {
+        this(new TypeConverterRegistry(typeConverters));
+    }
+
+    public TimeTypeAnalyzer(TypeConverterRegistry typeConverters) {
+        this(typeConverters, false);
+    }
+
+    public TimeTypeAnalyzer(TypeConverterRegistry typeConverters, boolean strict) {
+        this.typeConverters = typeConverters;
+        this.strict = strict;
+        this.resultCache = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * 判断类的字段图中是否可能出现@Time字段或时间类型
+     */
+    public boolean mayContainTime(Class<?> type) {
+        Boolean cached = resultCache.get(type);
+        if (cached != null) {
+            return cached;
+        }
+        Set<Class<?>> visiting = new HashSet<>();
+        boolean result = analyzeType(ResolvableType.forClass(type), visiting);
+        if (!result) {
+            // 根节点不可达时，分析过程中访问到的所有类也都不可达
+            for (Class<?> visited : visiting) {
+                resultCache.put(visited, Boolean.FALSE);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 判断一个声明类型（字段、集合元素、Map值）是否可能承载时间数据
+     */
+    public boolean mayContainTime(ResolvableType type) {
+        Class<?> rawType = type.resolve();
+        if (rawType != null && isCustomObject(rawType) && !rawType.isInterface()
+                && !Modifier.isAbstract(rawType.getModifiers())) {
+            return mayContainTime(rawType);
+        }
+        Set<Class<?>> visiting = new HashSet<>();
+        boolean result = analyzeType(type, visiting);
+        if (!result) {
+            for (Class<?> visited : visiting) {
+                resultCache.put(visited, Boolean.FALSE);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 注册了新的转换器后，之前的分析结果不再可信
+     */
+    public void clear() {
+        resultCache.clear();
+    }
+
+    private boolean analyzeType(ResolvableType type, Set<Class<?>> visiting) {
+        Class<?> rawType = type.resolve();
+        if (rawType == null || rawType == Object.class) {
+            return !strict;
+        }
+        if (rawType.isPrimitive() || rawType.isEnum() || (strict && rawType == String.class)) {
+            return false;
+        }
+        if (typeConverters.supports(rawType)) {
+            return true;
+        }
+        if (rawType.isArray()) {
+            return analyzeType(type.getComponentType(), visiting);
+        }
+        if (Collection.class.isAssignableFrom(rawType)) {
+            return analyzeType(type.asCollection().getGeneric(0), visiting);
+        }
+        if (Map.class.isAssignableFrom(rawType)) {
+            // Map只处理value
+            return analyzeType(type.asMap().getGeneric(1), visiting);
+        }
+        if (Number.class.isAssignableFrom(rawType)) {
+            return false;
+        }
+        // 接口和抽象类无法得知运行时的实现
+        if (rawType.isInterface() || Modifier.isAbstract(rawType.getModifiers())) {
+            return true;
+        }
+        if (isTimeType(rawType)) {
+            return !Modifier.isFinal(rawType.getModifiers());
+        }
+        if (!isCustomObject(rawType)) {
+            return false;
+        }
+        return analyzeClass(rawType, visiting);
+    }
+
+    private boolean analyzeClass(Class<?> type, Set<Class<?>> visiting) {
+        Boolean cached = resultCache.get(type);
+        if (cached != null) {
+            return cached;
+        }
+        // 正在分析的类先假设不可达，由根节点统一确认结果
+        if (!visiting.add(type)) {
+            return false;
+        }
+
+        Class<?> currentClass = type;
+        while (currentClass != null && currentClass != Object.class) {
+            for (Field field : currentClass.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+                    continue;
+                }
+                if (mayFieldContainTime(field, type, visiting)) {
+                    resultCache.put(type, Boolean.TRUE);
+                    return true;
+                }
+            }
+            currentClass = currentClass.getSuperclass();
+        }
+        return false;
+    }
+
+    private boolean mayFieldContainTime(Field field, Class<?> owner, Set<Class<?>> visiting) {
+        Class<?> declaredType = field.getType();
+        if (declaredType.isPrimitive()) {
+            return false;
+        }
+        if (field.isAnnotationPresent(Time.class)) {
+            return true;
+        }
+        // 普通字符串字段只在标注@Time时才会转换
+        if (declaredType == String.class) {
+            return false;
+        }
+        return analyzeType(ResolvableType.forField(field, owner), visiting);
+    }
+
+    /**
+     * 判断是否为时间类型
+     */
+    static boolean isTimeType(Class<?> type) {
+        return LocalDateTime.class.isAssignableFrom(type) ||
+                LocalDate.class.isAssignableFrom(type) ||
+                LocalTime.class.isAssignableFrom(type) ||
+                ZonedDateTime.class.isAssignableFrom(type) ||
+                OffsetDateTime.class.isAssignableFrom(type) ||
+                Instant.class.isAssignableFrom(type) ||
+                Date.class.isAssignableFrom(type) ||
+                java.sql.Timestamp.class.isAssignableFrom(type) ||
+                java.sql.Date.class.isAssignableFrom(type) ||
+                java.sql.Time.class.isAssignableFrom(type);
+    }
+
+    /**
+     * 判断是否为自定义对象
+     */
+    public static boolean isCustomObject(Class<?> type) {
+        return !type.isPrimitive() &&
+                !type.getName().startsWith("java.") &&
+                !type.getName().startsWith("javax.") &&
+                !type.isEnum() &&
+                !type.isArray();
+    }
+}
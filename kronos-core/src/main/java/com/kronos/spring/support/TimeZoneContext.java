@@ -0,0 +1,72 @@
+package com.kronos.spring.support;
+
+import java.time.ZoneId;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+
+/**
+ * @author zhangyh
+ * @Date 2026/10/18 23:10
+ * @desc 某一时刻的时区上下文快照，不可变，用于在线程之间传递请求的时区
+ */
+public final class TimeZoneContext {
+
+    /**
+     * 没有任何时区信息的上下文
+     */
+    public static final TimeZoneContext EMPTY = new TimeZoneContext(null, null);
+
+    private final ZoneId zoneId;
+    private final ZoneId serializationZoneId;
+
+    private TimeZoneContext(ZoneId zoneId, ZoneId serializationZoneId) {
+        this.zoneId = zoneId;
+        this.serializationZoneId = serializationZoneId;
+    }
+
+    public static TimeZoneContext of(ZoneId zoneId, ZoneId serializationZoneId) {
+        if (zoneId == null && serializationZoneId == null) {
+            return EMPTY;
+        }
+        return new TimeZoneContext(zoneId, serializationZoneId);
+    }
+
+    public ZoneId getZoneId() {
+        return zoneId;
+    }
+
+    public ZoneId getSerializationZoneId() {
+        return serializationZoneId;
+    }
+
+    public TimeZoneContext withZoneId(ZoneId zoneId) {
+        return Objects.equals(this.zoneId, zoneId) ? this : of(zoneId, serializationZoneId);
+    }
+
+    public TimeZoneContext withSerializationZoneId(ZoneId serializationZoneId) {
+        return Objects.equals(this.serializationZoneId, serializationZoneId) ? this : of(zoneId, serializationZoneId);
+    }
+
+    public boolean isEmpty() {
+        return zoneId == null && serializationZoneId == null;
+    }
+
+    /**
+     * 包装任务，执行期间绑定该上下文，结束后恢复执行线程原来的上下文
+     */
+    public Runnable wrap(Runnable task) {
+        return () -> TimeZoneContextHolder.runWith(this, task);
+    }
+
+    /**
+     * 包装任务，执行期间绑定该上下文，结束后恢复执行线程原来的上下文
+     */
+    public <T> Callable<T> wrap(Callable<T> task) {
+        return () -> TimeZoneContextHolder.callWith(this, task);
+    }
+
+    @Override
+    public String toString() {
+        return "TimeZoneContext{zoneId=" + zoneId + ", serializationZoneId=" + serializationZoneId + "}";
+    }
+}
@@ -1,6 +1,9 @@
 package com.kronos.spring.support;
 
+import java.time.ZoneId;
 import java.util.TimeZone;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
 
 /**
  * @author zhangyh
@@ -8,35 +11,142 @@ import java.util.TimeZone;
  * @desc
  */
 public class TimeZoneContextHolder {
-    private static final ThreadLocal<TimeZone> USER_TIME_ZONE = new ThreadLocal<>();
+
+    // 默认存放在ThreadLocal中，启动时按配置替换，之后不再修改
+    private static TimeZoneContextStrategy strategy = new ThreadLocalTimeZoneContextStrategy();
+
+    /**
+     * 设置时区上下文的存放策略，应在处理请求之前调用
+     */
+    public static void setStrategy(TimeZoneContextStrategy strategy) {
+        TimeZoneContextHolder.strategy = strategy;
+    }
+
+    public static TimeZoneContextStrategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * 设置当前用户的时区
+     */
+    public static void setZoneId(ZoneId zoneId) {
+        strategy.setContext(strategy.getContext().withZoneId(zoneId));
+    }
+
+    /**
+     * 获取当前用户的时区，已经是解析好的ZoneId
+     */
+    public static ZoneId getZoneId() {
+        return strategy.getContext().getZoneId();
+    }
+
+    /**
+     * 设置序列化时使用的时区，为null时Jackson不做转换
+     */
+    public static void setSerializationZoneId(ZoneId zoneId) {
+        strategy.setContext(strategy.getContext().withSerializationZoneId(zoneId));
+    }
+
+    /**
+     * 获取序列化时使用的时区
+     */
+    public static ZoneId getSerializationZoneId() {
+        return strategy.getContext().getSerializationZoneId();
+    }
 
     /**
      * 设置当前用户的时区
      */
     public static void setTimeZone(TimeZone timeZone) {
-        USER_TIME_ZONE.set(timeZone);
+        setZoneId(timeZone == null ? null : timeZone.toZoneId());
     }
 
     /**
-     * 设置当前用户的时区（字符串形式）
+     * 设置当前用户的时区（字符串形式），与TimeZone.getTimeZone一致，无法识别的时区按GMT处理
      */
     public static void setTimeZone(String timeZoneId) {
-        USER_TIME_ZONE.set(TimeZone.getTimeZone(timeZoneId));
+        setTimeZone(TimeZone.getTimeZone(timeZoneId));
+    }
+
+    /**
+     * 设置当前用户的时区（字符串形式），按ZoneIdResolver规范化解析，无法识别的时区抛出DateTimeException
+     */
+    public static void setTimeZoneStrict(String timeZoneId) {
+        setZoneId(ZoneIdResolver.parse(timeZoneId));
     }
 
     /**
      * 获取当前用户的时区
      */
     public static TimeZone getTimeZone() {
-        return USER_TIME_ZONE.get();
+        ZoneId zoneId = getZoneId();
+        return zoneId == null ? null : TimeZone.getTimeZone(zoneId);
     }
 
+    /**
+     * 当前时区上下文的快照，可以交给其他线程使用
+     */
+    public static TimeZoneContext getContext() {
+        return strategy.getContext();
+    }
+
+    /**
+     * 替换当前的时区上下文
+     */
+    public static void setContext(TimeZoneContext context) {
+        strategy.setContext(context);
+    }
+
+    /**
+     * 绑定上下文执行任务，结束后恢复原来的上下文
+     */
+    public static void runWith(TimeZoneContext context, Runnable task) {
+        try {
+            strategy.callWith(context, () -> {
+                task.run();
+                return null;
+            });
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            // Runnable不会抛出受检异常
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 绑定上下文执行任务，结束后恢复原来的上下文
+     */
+    public static <T> T callWith(TimeZoneContext context, Callable<T> task) throws Exception {
+        return strategy.callWith(context, task);
+    }
+
+    /**
+     * 包装任务，在其他线程上执行时使用当前线程的时区
+     */
+    public static Runnable wrap(Runnable task) {
+        return getContext().wrap(task);
+    }
+
+    /**
+     * 包装任务，在其他线程上执行时使用当前线程的时区
+     */
+    public static <T> Callable<T> wrap(Callable<T> task) {
+        return getContext().wrap(task);
+    }
+
+    /**
+     * 包装执行器，提交任务时记录提交线程的时区，例如CompletableFuture.supplyAsync(supplier, wrapExecutor(executor))
+     */
+    public static Executor wrapExecutor(Executor executor) {
+        return task -> executor.execute(wrap(task));
+    }
 
     /**
      * 清除当前用户的时区信息
      */
     public static void clear() {
-        USER_TIME_ZONE.remove();
+        strategy.clearContext();
     }
 
 }
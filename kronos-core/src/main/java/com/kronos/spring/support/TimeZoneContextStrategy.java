@@ -0,0 +1,43 @@
+package com.kronos.spring.support;
+
+import com.kronos.spring.config.TimeZoneContextMode;
+
+import java.util.concurrent.Callable;
+
+/**
+ * @author zhangyh
+ * @Date 2026/10/18 23:10
+ * @desc 时区上下文的存放策略，TimeZoneContextHolder的所有读写都委托给当前策略
+ */
+public interface TimeZoneContextStrategy {
+
+    /**
+     * 当前的时区上下文，没有时返回TimeZoneContext.EMPTY
+     */
+    TimeZoneContext getContext();
+
+    /**
+     * 替换当前的时区上下文
+     */
+    void setContext(TimeZoneContext context);
+
+    /**
+     * 清除当前的时区上下文
+     */
+    void clearContext();
+
+    /**
+     * 绑定上下文执行任务，结束后恢复原来的上下文
+     */
+    <T> T callWith(TimeZoneContext context, Callable<T> task) throws Exception;
+
+    static TimeZoneContextStrategy of(TimeZoneContextMode mode) {
+        switch (mode) {
+            case SCOPED_VALUE:
+                return new ScopedValueTimeZoneContextStrategy();
+            case THREAD_LOCAL:
+            default:
+                return new ThreadLocalTimeZoneContextStrategy();
+        }
+    }
+}
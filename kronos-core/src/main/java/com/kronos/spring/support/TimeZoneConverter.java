@@ -1,13 +1,21 @@
 package com.kronos.spring.support;
 
 import com.kronos.spring.config.KronosProperty;
+import com.kronos.spring.metrics.ConversionDirection;
+import com.kronos.spring.metrics.ConversionMetrics;
 import com.kronos.spring.support.converters.*;
+import com.kronos.spring.support.format.CompiledFormat;
+import com.kronos.spring.support.format.DateTimeFormatRegistry;
 
+import java.lang.reflect.Method;
 import java.time.*;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 
 /**
  * @author zhangyh
@@ -17,36 +25,305 @@ import java.util.concurrent.ConcurrentHashMap;
 public class TimeZoneConverter {
 
     private final ZoneId                          backendZoneId;
-    private final String                          defaultDateFormat;
-    private final Map<Class<?>, TypeConverter<?>> typeConverters;
+    private final DateTimeFormatRegistry          formatRegistry;
+    private final CompiledFormat                  defaultDateFormat;
+    private final int                             cycleTrackingDepth;
+
+    // 单次转换的遍历预算，没有任何限制时为null
+    private final ConversionBudget                budget;
+    private final TypeConverterRegistry           typeConverters;
     private final ObjectProcessor                 objectProcessor;
 
+    // 大集合并行转换使用的独立线程池，未开启时为null
+    private final ForkJoinPool                    parallelPool;
+
+    // 客户端时区是否与后端时区规则相同，相同则整个参数和返回值都无需遍历
+    private final Map<ZoneId, Boolean>            backendEquivalence;
+
+    // 按客户端时区缓存两个方向的时区对
+    private final Map<ZoneId, ZonePairConverter>  toBackendPairs;
+    private final Map<ZoneId, ZonePairConverter>  toClientPairs;
+    private final CacheStats                      zonePairStats;
+
+    // 绑定MeterRegistry后替换，之前为NONE，不计时也不计数
+    private volatile ConversionMetrics            metrics = ConversionMetrics.NONE;
+
     public TimeZoneConverter(KronosProperty properties, List<TypeConverter<?>> customConverters) {
         this.backendZoneId = ZoneId.of(properties.getBackendZoneId());
-        this.defaultDateFormat = properties.getDefaultDateTimeFormat();
+        this.backendEquivalence = new ConcurrentHashMap<>();
+        this.toBackendPairs = new ConcurrentHashMap<>();
+        this.toClientPairs = new ConcurrentHashMap<>();
+        this.zonePairStats = new CacheStats();
+        this.formatRegistry = new DateTimeFormatRegistry();
+        this.defaultDateFormat = formatRegistry.get(properties.getDefaultDateTimeFormat());
+        this.cycleTrackingDepth = properties.getCycleTrackingDepth();
+        this.budget = ConversionBudget.of(properties);
         this.typeConverters = initializeTypeConverters(customConverters);
-        this.objectProcessor = new ObjectProcessor(typeConverters);
+        this.parallelPool = createParallelPool(properties);
+        this.objectProcessor = new ObjectProcessor(typeConverters, formatRegistry, parallelPool,
+                properties.getParallelThreshold(), properties.isStrict());
+    }
+
+    private static ForkJoinPool createParallelPool(KronosProperty properties) {
+        if (properties.getParallelThreshold() <= 0) {
+            return null;
+        }
+        int parallelism = properties.getParallelism() > 0
+                ? properties.getParallelism() : Runtime.getRuntime().availableProcessors();
+        return new ForkJoinPool(parallelism, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("kronos-convert-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+    }
+
+    /**
+     * 关闭并行转换线程池，容器销毁bean时调用
+     */
+    public void shutdown() {
+        if (parallelPool != null) {
+            parallelPool.shutdown();
+        }
     }
 
     /**
      * 客户端时区 -> 后端时区
      */
     public <T> T toBackendTimeZone(T object, ZoneId clientZoneId) {
+        if (isBackendEquivalent(clientZoneId)) {
+            return object;
+        }
         return convertTimeZone(object, clientZoneId, backendZoneId);
     }
 
+    /**
+     * 客户端时区 -> 后端时区，所有参数共享同一个转换上下文，转换结果直接写回数组
+     */
+    public void argumentsToBackendTimeZone(Object[] args, ZoneId clientZoneId) {
+        argumentsToBackendTimeZone(args, clientZoneId, null);
+    }
+
+    /**
+     * 客户端时区 -> 后端时区，formats为各参数上@Time(format)指定的格式，未指定的位置为null
+     */
+    public void argumentsToBackendTimeZone(Object[] args, ZoneId clientZoneId, CompiledFormat[] formats) {
+        argumentsToBackendTimeZone(args, clientZoneId, formats, null);
+    }
+
+    /**
+     * 客户端时区 -> 后端时区，method不为null时按参数的声明类型（含泛型参数）遍历
+     */
+    public void argumentsToBackendTimeZone(Object[] args, ZoneId clientZoneId, CompiledFormat[] formats,
+                                           Method method) {
+        argumentsToBackendTimeZone(args, clientZoneId, formats, method, null);
+    }
+
+    /**
+     * 客户端时区 -> 后端时区，trace不为null时把本次转换的遍历计数累加到trace
+     */
+    public void argumentsToBackendTimeZone(Object[] args, ZoneId clientZoneId, CompiledFormat[] formats,
+                                           Method method, ConversionStats trace) {
+        if (args.length == 0 || isBackendEquivalent(clientZoneId)) {
+            return;
+        }
+
+        ConversionMetrics metrics = method != null ? this.metrics : ConversionMetrics.NONE;
+        boolean counted = metrics.isEnabled() || trace != null;
+        long start = metrics.isEnabled() ? System.nanoTime() : 0;
+        ConversionContext context = null;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                Object arg = args[i];
+                if (arg == null) {
+                    continue;
+                }
+                if (context == null) {
+                    context = newContext(clientZoneId, backendZoneId, counted);
+                }
+                context.switchFormat(formats != null ? formats[i] : null);
+                args[i] = method != null
+                        ? objectProcessor.process(arg, objectProcessor.getParameterPlan(method, i), context)
+                        : objectProcessor.process(arg, context);
+            }
+        } finally {
+            // 超出预算抛出异常时同样记录本次转换
+            if (context != null && counted) {
+                finish(context, method, ConversionDirection.REQUEST, metrics, start, trace);
+            }
+        }
+    }
+
     /**
      * 后端时区 -> 客户端时区
      */
     public <T> T toClientTimeZone(T object, ZoneId clientZoneId) {
+        if (isBackendEquivalent(clientZoneId)) {
+            return object;
+        }
         return convertTimeZone(object, backendZoneId, clientZoneId);
     }
 
+    /**
+     * 后端时区 -> 客户端时区，按方法返回值的声明类型（含泛型参数）遍历
+     */
+    public <T> T toClientTimeZone(T object, ZoneId clientZoneId, Method method) {
+        return toClientTimeZone(object, clientZoneId, method, null);
+    }
+
+    /**
+     * 后端时区 -> 客户端时区，trace不为null时把本次转换的遍历计数累加到trace
+     */
+    public <T> T toClientTimeZone(T object, ZoneId clientZoneId, Method method, ConversionStats trace) {
+        if (object == null || isBackendEquivalent(clientZoneId)) {
+            return object;
+        }
+        return toClientTimeZone(object, clientZoneId, method, objectProcessor.getReturnPlan(method), trace);
+    }
+
+    /**
+     * 后端时区 -> 客户端时区，转换异步、流式和响应式返回值中的单个元素，按返回类型的元素类型遍历
+     */
+    public <T> T elementToClientTimeZone(T element, ZoneId clientZoneId, Method method, ConversionStats trace) {
+        if (element == null || isBackendEquivalent(clientZoneId)) {
+            return element;
+        }
+        return toClientTimeZone(element, clientZoneId, method, objectProcessor.getReturnElementPlan(method), trace);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T toClientTimeZone(T object, ZoneId clientZoneId, Method method, TypePlan plan,
+                                   ConversionStats trace) {
+        ConversionMetrics metrics = this.metrics;
+        if (!metrics.isEnabled() && trace == null) {
+            return (T) objectProcessor.process(object, plan, newContext(backendZoneId, clientZoneId));
+        }
+        long start = metrics.isEnabled() ? System.nanoTime() : 0;
+        ConversionContext context = newContext(backendZoneId, clientZoneId, true);
+        try {
+            return (T) objectProcessor.process(object, plan, context);
+        } finally {
+            finish(context, method, ConversionDirection.RESPONSE, metrics, start, trace);
+        }
+    }
+
+    /**
+     * 转换结束后记录指标，并把计数累加到调用方的trace
+     */
+    private static void finish(ConversionContext context, Method method, ConversionDirection direction,
+                               ConversionMetrics metrics, long start, ConversionStats trace) {
+        if (metrics.isEnabled()) {
+            metrics.record(method, direction, System.nanoTime() - start, context.getStats());
+        }
+        if (trace != null) {
+            trace.merge(context.getStats());
+        }
+    }
+
+    /**
+     * 转换单个值，不遍历对象内部，没有对应的转换器时原样返回
+     * @param format 字符串使用的格式，为null时使用默认格式
+     */
+    public Object convertValue(Object value, ZoneId fromZone, ZoneId toZone, CompiledFormat format) {
+        if (value == null || fromZone.equals(toZone)) {
+            return value;
+        }
+        TypeConverter<Object> converter = typeConverters.find(value.getClass());
+        if (converter == null) {
+            return value;
+        }
+        return converter.convert(value, getZonePair(fromZone, toZone), format != null ? format : defaultDateFormat);
+    }
+
+    /**
+     * 时区与后端时区的规则是否相同（例如UTC与Etc/UTC、+00:00），相同时转换没有任何效果
+     */
+    public boolean isBackendEquivalent(ZoneId zoneId) {
+        if (zoneId.equals(backendZoneId)) {
+            return true;
+        }
+        Boolean equivalent = backendEquivalence.get(zoneId);
+        if (equivalent == null) {
+            equivalent = zoneId.getRules().equals(backendZoneId.getRules());
+            backendEquivalence.putIfAbsent(zoneId, equivalent);
+        }
+        return equivalent;
+    }
+
+    /**
+     * 获取时区对，客户端与后端之间的时区对按客户端时区缓存
+     */
+    public ZonePairConverter getZonePair(ZoneId fromZone, ZoneId toZone) {
+        if (toZone.equals(backendZoneId)) {
+            return cachedZonePair(toBackendPairs, fromZone, fromZone, toZone);
+        }
+        if (fromZone.equals(backendZoneId)) {
+            return cachedZonePair(toClientPairs, toZone, fromZone, toZone);
+        }
+        return new ZonePairConverter(fromZone, toZone);
+    }
+
+    private ZonePairConverter cachedZonePair(Map<ZoneId, ZonePairConverter> cache, ZoneId clientZoneId,
+                                             ZoneId fromZone, ZoneId toZone) {
+        ZonePairConverter zonePair = cache.get(clientZoneId);
+        if (zonePair == null) {
+            zonePairStats.miss();
+            zonePair = cache.computeIfAbsent(clientZoneId, key -> new ZonePairConverter(fromZone, toZone));
+        } else {
+            zonePairStats.hit();
+        }
+        return zonePair;
+    }
+
+    /**
+     * 已缓存的时区对数量（两个方向之和）
+     */
+    public int getZonePairCacheSize() {
+        return toBackendPairs.size() + toClientPairs.size();
+    }
+
+    /**
+     * 时区对缓存的命中统计
+     */
+    public CacheStats getZonePairStats() {
+        return zonePairStats;
+    }
+
+    /**
+     * 开启指标记录，同时开始统计转换计划和时区对缓存的命中情况
+     */
+    public void setMetrics(ConversionMetrics metrics) {
+        if (metrics.isEnabled()) {
+            zonePairStats.enable();
+            objectProcessor.getPlanStats().enable();
+        }
+        this.metrics = metrics;
+    }
+
+    public ConversionMetrics getMetrics() {
+        return metrics;
+    }
+
+    public ZoneId getBackendZoneId() {
+        return backendZoneId;
+    }
+
+    /**
+     * 格式注册表，所有格式字符串共享同一份编译结果
+     */
+    public DateTimeFormatRegistry getFormatRegistry() {
+        return formatRegistry;
+    }
+
+    public ObjectProcessor getObjectProcessor() {
+        return objectProcessor;
+    }
+
     /**
      * 注册自定义类型转换器
      */
     public <T> void registerConverter(Class<T> type, TypeConverter<T> converter) {
-        typeConverters.put(type, converter);
+        typeConverters.register(type, converter);
+        objectProcessor.clearCaches();
     }
 
     /**
@@ -58,12 +335,20 @@ public class TimeZoneConverter {
             return object;
         }
 
-        ConversionContext context = new ConversionContext(fromZone, toZone, defaultDateFormat);
-        return (T) objectProcessor.process(object, context);
+        return (T) objectProcessor.process(object, newContext(fromZone, toZone));
+    }
+
+    private ConversionContext newContext(ZoneId fromZone, ZoneId toZone) {
+        return newContext(fromZone, toZone, false);
+    }
+
+    private ConversionContext newContext(ZoneId fromZone, ZoneId toZone, boolean counted) {
+        return new ConversionContext(getZonePair(fromZone, toZone), defaultDateFormat, cycleTrackingDepth,
+                counted ? new ConversionStats() : null, budget);
     }
 
-    private Map<Class<?>, TypeConverter<?>> initializeTypeConverters(List<TypeConverter<?>> customConverters) {
-        Map<Class<?>, TypeConverter<?>> converters = new ConcurrentHashMap<>();
+    private TypeConverterRegistry initializeTypeConverters(List<TypeConverter<?>> customConverters) {
+        Map<Class<?>, TypeConverter<?>> converters = new HashMap<>();
 
         // 注册默认转换器
         registerDefaultConverters(converters);
@@ -75,14 +360,14 @@ public class TimeZoneConverter {
             }
         }
 
-        return converters;
+        return new TypeConverterRegistry(converters);
     }
 
     /**
      * 注册默认转换器
      */
     private void registerDefaultConverters(Map<Class<?>, TypeConverter<?>> converters) {
-        converters.put(String.class, new StringDateTimeConverter());
+        converters.put(String.class, new StringDateTimeConverter(formatRegistry));
         converters.put(Date.class, new DateConverter());
         converters.put(LocalDateTime.class, new LocalDateTimeConverter());
         converters.put(ZonedDateTime.class, new ZonedDateTimeConverter());
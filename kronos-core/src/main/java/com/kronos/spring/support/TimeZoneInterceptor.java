@@ -1,22 +1,45 @@
 package com.kronos.spring.support;
 
+import com.kronos.spring.annotation.ConvertTime;
+import com.kronos.spring.config.ConversionEngine;
 import com.kronos.spring.config.KronosProperty;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpStatus;
 import org.springframework.util.StringUtils;
-import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.lang.reflect.Method;
+import java.time.DateTimeException;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author zhangyh
  * @Date 2025/5/21 8:49
  * @desc
  */
-public class TimeZoneInterceptor implements HandlerInterceptor {
+public class TimeZoneInterceptor implements AsyncHandlerInterceptor {
 
     private final KronosProperty properties;
+    private final ZoneIdResolver zoneIdResolver;
+    private final ZoneId         defaultClientZoneId;
+
+    // Jackson引擎下缓存处理方法是否标注了@ConvertTime
+    private final Map<Method, Boolean> convertingHandlers = new ConcurrentHashMap<>();
 
     public TimeZoneInterceptor(KronosProperty properties) {
+        this(properties, new ZoneIdResolver());
+    }
+
+    public TimeZoneInterceptor(KronosProperty properties, ZoneIdResolver zoneIdResolver) {
         this.properties = properties;
+        this.zoneIdResolver = zoneIdResolver;
+        this.defaultClientZoneId = ZoneIdResolver.parse(properties.getDefaultClientZoneId());
     }
 
     @Override
@@ -24,19 +47,53 @@ public class TimeZoneInterceptor implements HandlerInterceptor {
         // 从请求头中获取时区信息
         String timeZoneId = request.getHeader(properties.getClientZoneIdHeader());
 
+        ZoneId zoneId;
         if (StringUtils.hasText(timeZoneId)) {
-            TimeZoneContextHolder.setTimeZone(timeZoneId);
+            zoneId = resolve(timeZoneId);
         } else {
             // 如果请求头中没有时区信息，则使用默认时区
-            TimeZoneContextHolder.setTimeZone(properties.getDefaultClientZoneId());
+            zoneId = defaultClientZoneId;
         }
 
+        // Jackson引擎只转换@ConvertTime接口的请求体和响应体
+        ZoneId serializationZoneId = properties.getEngine() == ConversionEngine.JACKSON && isConvertingHandler(handler)
+                ? zoneId : null;
+        // 通过当前的存放策略写入，ThreadLocal或者TimeZoneScopeFilter绑定的作用域
+        TimeZoneContextHolder.setContext(TimeZoneContext.of(zoneId, serializationZoneId));
         return true;
     }
 
+    private boolean isConvertingHandler(Object handler) {
+        if (!(handler instanceof HandlerMethod)) {
+            return false;
+        }
+        HandlerMethod handlerMethod = (HandlerMethod) handler;
+        return convertingHandlers.computeIfAbsent(handlerMethod.getMethod(), method ->
+                AnnotatedElementUtils.hasAnnotation(method, ConvertTime.class)
+                        || AnnotatedElementUtils.hasAnnotation(handlerMethod.getBeanType(), ConvertTime.class));
+    }
+
     @Override
     public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
-        // 请求结束后清除ThreadLocal中的时区信息，防止内存泄漏
+        // 请求结束后清除时区信息，防止线程池中的线程带着上一个请求的时区
         TimeZoneContextHolder.clear();
     }
-}
\ No newline at end of file
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // 异步处理开始后请求线程会被释放，不会再调用afterCompletion，异步派发时preHandle会重新设置时区
+        TimeZoneContextHolder.clear();
+    }
+
+    /**
+     * 无法识别的时区直接返回400，不再静默退化为GMT
+     */
+    private ZoneId resolve(String timeZoneId) {
+        try {
+            return zoneIdResolver.resolve(timeZoneId);
+        } catch (DateTimeException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "无法识别的时区: " + properties.getClientZoneIdHeader() + "=" + timeZoneId, e);
+        }
+    }
+}
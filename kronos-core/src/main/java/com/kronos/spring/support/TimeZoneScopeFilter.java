@@ -0,0 +1,39 @@
+package com.kronos.spring.support;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * @author zhangyh
+ * @Date 2026/10/18 23:30
+ * @desc 为每个请求绑定时区作用域，TimeZoneInterceptor在作用域内写入请求的时区。
+ * 只在使用ScopedValue存放时区时注册，ThreadLocal不需要预先绑定
+ */
+public class TimeZoneScopeFilter extends OncePerRequestFilter implements Ordered {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try {
+            TimeZoneContextHolder.callWith(TimeZoneContext.EMPTY, () -> {
+                filterChain.doFilter(request, response);
+                return null;
+            });
+        } catch (ServletException | IOException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ServletException(e);
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 100;
+    }
+}
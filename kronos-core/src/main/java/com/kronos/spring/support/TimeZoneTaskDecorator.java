@@ -0,0 +1,16 @@
+package com.kronos.spring.support;
+
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * @author zhangyh
+ * @Date 2026/10/18 23:30
+ * @desc 把提交线程的时区带到Spring执行器的工作线程上，@Async方法和ThreadPoolTaskExecutor提交的任务都能读到请求的时区
+ */
+public class TimeZoneTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        return TimeZoneContextHolder.wrap(runnable);
+    }
+}
@@ -1,5 +1,7 @@
 package com.kronos.spring.support;
 
+import com.kronos.spring.support.format.CompiledFormat;
+
 import java.time.ZoneId;
 
 /**
@@ -19,6 +21,29 @@ public interface TypeConverter<T> {
      */
     Object convert(T value, ZoneId fromZone, ZoneId toZone, String format);
 
+    /**
+     * 使用预编译格式的时区转换方法，默认按格式字符串转换
+     * @param value 原始值
+     * @param fromZone 原始时区
+     * @param toZone 目标时区
+     * @param format 预编译的格式
+     * @return 转换后的值
+     */
+    default Object convert(T value, ZoneId fromZone, ZoneId toZone, CompiledFormat format) {
+        return convert(value, fromZone, toZone, format.getPattern());
+    }
+
+    /**
+     * 使用缓存的时区对转换，内置转换器直接基于时区对计算，自定义转换器默认按时区转换
+     * @param value 原始值
+     * @param zonePair 原始时区到目标时区的时区对
+     * @param format 预编译的格式
+     * @return 转换后的值
+     */
+    default Object convert(T value, ZonePairConverter zonePair, CompiledFormat format) {
+        return convert(value, zonePair.getFromZone(), zonePair.getToZone(), format);
+    }
+
     /**
      * 支持的类型
      * @return 类
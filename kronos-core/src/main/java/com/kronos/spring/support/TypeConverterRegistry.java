@@ -0,0 +1,81 @@
+package com.kronos.spring.support;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @author zhangyh
+ * @Date 2026/10/19 15:40
+ * @desc 类型转换器注册表，按运行时类解析最具体的转换器：自身和父类优先，其次是由近及远的接口。
+ * 解析结果（包括没有转换器）缓存在ClassValue中，注册新的转换器时整体替换，查询不需要加锁
+ */
+public class TypeConverterRegistry {
+
+    // ClassValue不能保存null，没有转换器的类记为NONE
+    private static final Object NONE = new Object();
+
+    private final Map<Class<?>, TypeConverter<?>> converters;
+
+    private volatile ClassValue<Object>           dispatch;
+
+    public TypeConverterRegistry(Map<Class<?>, TypeConverter<?>> converters) {
+        this.converters = new ConcurrentHashMap<>(converters);
+        this.dispatch = newDispatch();
+    }
+
+    /**
+     * 注册转换器，之前缓存的解析结果全部作废
+     */
+    public void register(Class<?> type, TypeConverter<?> converter) {
+        converters.put(type, converter);
+        dispatch = newDispatch();
+    }
+
+    /**
+     * 查找类型对应的转换器，没有时返回null
+     */
+    @SuppressWarnings("unchecked")
+    public TypeConverter<Object> find(Class<?> type) {
+        Object converter = dispatch.get(type);
+        return converter == NONE ? null : (TypeConverter<Object>) converter;
+    }
+
+    public boolean supports(Class<?> type) {
+        return dispatch.get(type) != NONE;
+    }
+
+    private ClassValue<Object> newDispatch() {
+        return new ClassValue<Object>() {
+            @Override
+            protected Object computeValue(Class<?> type) {
+                TypeConverter<?> converter = resolve(type);
+                return converter != null ? converter : NONE;
+            }
+        };
+    }
+
+    private TypeConverter<?> resolve(Class<?> type) {
+        Deque<Class<?>> interfaces = new ArrayDeque<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            TypeConverter<?> converter = converters.get(current);
+            if (converter != null) {
+                return converter;
+            }
+            Collections.addAll(interfaces, current.getInterfaces());
+        }
+        // 接口按广度优先，直接实现的接口先于父接口
+        Set<Class<?>> visited = new HashSet<>();
+        while (!interfaces.isEmpty()) {
+            Class<?> candidate = interfaces.poll();
+            if (!visited.add(candidate)) {
+                continue;
+            }
+            TypeConverter<?> converter = converters.get(candidate);
+            if (converter != null) {
+                return converter;
+            }
+            Collections.addAll(interfaces, candidate.getInterfaces());
+        }
+        return null;
+    }
+}
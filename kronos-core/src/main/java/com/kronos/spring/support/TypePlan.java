@@ -0,0 +1,96 @@
+package com.kronos.spring.support;
+
+/**
+ * @author zhangyh
+ * @Date 2026/10/19 14:20
+ * @desc 按声明类型（方法参数、返回值、字段，含泛型参数）编译的遍历计划。
+ * 值的运行时类型与计划不一致时（子类、Object或接口声明等多态位置）回退到按getClass()分派，
+ * 元素类型相同的集合因此不需要对每个元素重新分类
+ */
+public final class TypePlan {
+
+    public enum Kind {
+        /**
+         * 声明类型无法确定，按运行时的值分派
+         */
+        DYNAMIC,
+        /**
+         * 任何取值都不会被转换，整棵子树跳过
+         */
+        TIME_FREE,
+        /**
+         * 值的类型恰好是声明类型时直接调用转换器
+         */
+        CONVERTER,
+        /**
+         * 值的类型恰好是声明类型时直接使用该类的转换计划
+         */
+        OBJECT,
+        COLLECTION,
+        MAP,
+        ARRAY
+    }
+
+    static final TypePlan DYNAMIC   = new TypePlan(Kind.DYNAMIC, null, null, null);
+    static final TypePlan TIME_FREE = new TypePlan(Kind.TIME_FREE, null, null, null);
+
+    private final Kind                  kind;
+    private final Class<?>              type;
+    private final TypeConverter<Object> converter;
+
+    // 集合和数组的元素计划、Map的value计划
+    private final TypePlan              element;
+
+    private TypePlan(Kind kind, Class<?> type, TypeConverter<Object> converter, TypePlan element) {
+        this.kind = kind;
+        this.type = type;
+        this.converter = converter;
+        this.element = element;
+    }
+
+    static TypePlan converter(Class<?> type, TypeConverter<Object> converter) {
+        return new TypePlan(Kind.CONVERTER, type, converter, null);
+    }
+
+    static TypePlan object(Class<?> type) {
+        return new TypePlan(Kind.OBJECT, type, null, null);
+    }
+
+    /**
+     * 元素不会被转换的容器同样整体跳过
+     */
+    static TypePlan container(Kind kind, TypePlan element) {
+        return element.isTimeFree() ? TIME_FREE : new TypePlan(kind, null, null, element);
+    }
+
+    public Kind getKind() { return kind; }
+
+    /**
+     * CONVERTER和OBJECT计划对应的声明类型，其余为null
+     */
+    public Class<?> getType() { return type; }
+
+    TypeConverter<Object> getConverter() { return converter; }
+
+    /**
+     * 集合、数组的元素计划或Map的value计划，其余为null
+     */
+    public TypePlan getElement() { return element; }
+
+    public boolean isTimeFree() { return kind == Kind.TIME_FREE; }
+
+    @Override
+    public String toString() {
+        switch (kind) {
+            case CONVERTER:
+            case OBJECT:
+                return kind + "(" + type.getSimpleName() + ")";
+            case COLLECTION:
+            case MAP:
+            case ARRAY:
+                return kind + "<" + element + ">";
+            default:
+                return kind.name();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.kronos.spring.support;
+
+import java.time.DateTimeException;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @author zhangyh
+ * @Date 2026/10/18 15:40
+ * @desc 请求头时区解析，按原始字符串缓存规范化后的ZoneId，UTC的各种别名和纯偏移量都解析为ZoneOffset
+ */
+public class ZoneIdResolver {
+
+    /**
+     * 默认最多缓存的请求头取值数量，超出后只解析不缓存
+     */
+    public static final int DEFAULT_MAX_SIZE = 1024;
+
+    private final Map<String, ZoneId> cache;
+    private final int                 maxSize;
+    private final LongAdder           hits;
+    private final LongAdder           misses;
+
+    public ZoneIdResolver() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    public ZoneIdResolver(int maxSize) {
+        this.cache = new ConcurrentHashMap<>();
+        this.maxSize = maxSize;
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+    }
+
+    /**
+     * 解析时区，无法识别时抛出DateTimeException，不会退化为GMT
+     */
+    public ZoneId resolve(String zoneId) {
+        ZoneId resolved = cache.get(zoneId);
+        if (resolved != null) {
+            hits.increment();
+            return resolved;
+        }
+
+        misses.increment();
+        resolved = parse(zoneId);
+        if (cache.size() < maxSize) {
+            cache.putIfAbsent(zoneId, resolved);
+        }
+        return resolved;
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public double hitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    /**
+     * 规范化解析：UTC别名统一为ZoneOffset.UTC，纯偏移量解析为ZoneOffset，固定偏移的区域时区也归一为ZoneOffset
+     */
+    public static ZoneId parse(String zoneId) {
+        if (zoneId == null) {
+            throw new DateTimeException("时区不能为空");
+        }
+        String id = zoneId.trim();
+        if (id.isEmpty()) {
+            throw new DateTimeException("时区不能为空");
+        }
+
+        switch (id.toUpperCase(Locale.ROOT)) {
+            case "Z":
+            case "UTC":
+            case "UT":
+            case "UCT":
+            case "GMT":
+            case "GMT0":
+            case "ZULU":
+            case "UNIVERSAL":
+            case "GREENWICH":
+            case "ETC/UTC":
+            case "ETC/UCT":
+            case "ETC/GMT":
+            case "ETC/GMT0":
+            case "ETC/ZULU":
+            case "ETC/UNIVERSAL":
+            case "ETC/GREENWICH":
+                return ZoneOffset.UTC;
+            default:
+                break;
+        }
+
+        char first = id.charAt(0);
+        if (first == '+' || first == '-') {
+            return ZoneOffset.of(id);
+        }
+        return ZoneId.of(id, ZoneId.SHORT_IDS).normalized();
+    }
+}
@@ -0,0 +1,142 @@
+package com.kronos.spring.support;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @author zhangyh
+ * @Date 2026/10/18 16:20
+ * @desc 时区偏移量表，把ZoneRules在1900~2100年之间的切换点展开成数组，查询时只做二分查找，
+ * 固定偏移的时区直接返回常量，表范围之外的时间退回ZoneRules
+ */
+public final class ZoneOffsetTable {
+
+    private static final long WINDOW_START = LocalDateTime.of(1900, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+    private static final long WINDOW_END   = LocalDateTime.of(2100, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+
+    // 本地时间查询时距离表边界的安全余量，大于任何偏移量
+    private static final long LOCAL_MARGIN = 86400;
+
+    private static final Map<ZoneId, ZoneOffsetTable> TABLES = new ConcurrentHashMap<>();
+
+    private final ZoneId    zoneId;
+    private final ZoneRules rules;
+    private final boolean   fixed;
+    private final int       initialOffset;
+    private final long[]    transitions;
+    private final long[]    localTransitions;
+    private final int[]     offsetsAfter;
+
+    private ZoneOffsetTable(ZoneId zoneId) {
+        this.zoneId = zoneId;
+        this.rules = zoneId.getRules();
+        this.fixed = rules.isFixedOffset();
+        this.initialOffset = rules.getOffset(Instant.ofEpochSecond(WINDOW_START)).getTotalSeconds();
+
+        long[] epochs = new long[64];
+        long[] locals = new long[64];
+        int[] offsets = new int[64];
+        int count = 0;
+        if (!fixed) {
+            ZoneOffsetTransition transition = rules.nextTransition(Instant.ofEpochSecond(WINDOW_START));
+            while (transition != null && transition.toEpochSecond() < WINDOW_END) {
+                if (count == epochs.length) {
+                    epochs = Arrays.copyOf(epochs, count << 1);
+                    locals = Arrays.copyOf(locals, count << 1);
+                    offsets = Arrays.copyOf(offsets, count << 1);
+                }
+                int before = transition.getOffsetBefore().getTotalSeconds();
+                int after = transition.getOffsetAfter().getTotalSeconds();
+                epochs[count] = transition.toEpochSecond();
+                // 缺口和重叠区间内的本地时间都使用切换前的偏移量，与LocalDateTime.atZone一致
+                locals[count] = transition.toEpochSecond() + Math.max(before, after);
+                offsets[count] = after;
+                count++;
+                transition = rules.nextTransition(transition.getInstant());
+            }
+        }
+        this.transitions = Arrays.copyOf(epochs, count);
+        this.localTransitions = Arrays.copyOf(locals, count);
+        this.offsetsAfter = Arrays.copyOf(offsets, count);
+    }
+
+    /**
+     * 获取时区的偏移量表（带缓存）
+     */
+    public static ZoneOffsetTable of(ZoneId zoneId) {
+        ZoneOffsetTable table = TABLES.get(zoneId);
+        if (table == null) {
+            table = TABLES.computeIfAbsent(zoneId, ZoneOffsetTable::new);
+        }
+        return table;
+    }
+
+    public ZoneId getZoneId() { return zoneId; }
+
+    /**
+     * 是否为固定偏移的时区
+     */
+    public boolean isFixed() { return fixed; }
+
+    /**
+     * 固定偏移时区的偏移量（秒）
+     */
+    public int getFixedOffset() { return initialOffset; }
+
+    /**
+     * 切换点数量
+     */
+    public int size() { return transitions.length; }
+
+    /**
+     * 某一时刻的偏移量（秒）
+     */
+    public int offsetAtInstant(long epochSecond) {
+        if (fixed) {
+            return initialOffset;
+        }
+        if (epochSecond < WINDOW_START || epochSecond >= WINDOW_END) {
+            return rules.getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds();
+        }
+        int index = floorIndex(transitions, epochSecond);
+        return index < 0 ? initialOffset : offsetsAfter[index];
+    }
+
+    /**
+     * 本地时间（按UTC计的秒数）对应的偏移量（秒）
+     */
+    public int offsetAtLocal(long localSecond) {
+        if (fixed) {
+            return initialOffset;
+        }
+        if (localSecond < WINDOW_START + LOCAL_MARGIN || localSecond >= WINDOW_END - LOCAL_MARGIN) {
+            return rules.getOffset(LocalDateTime.ofEpochSecond(localSecond, 0, ZoneOffset.UTC)).getTotalSeconds();
+        }
+        int index = floorIndex(localTransitions, localSecond);
+        return index < 0 ? initialOffset : offsetsAfter[index];
+    }
+
+    /**
+     * 小于等于key的最后一个位置，不存在时返回-1
+     */
+    private static int floorIndex(long[] values, long key) {
+        int low = 0;
+        int high = values.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] <= key) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return high;
+    }
+}
@@ -0,0 +1,82 @@
+package com.kronos.spring.support;
+
+import java.time.*;
+
+/**
+ * @author zhangyh
+ * @Date 2026/10/18 16:45
+ * @desc 一对时区之间的转换，两个时区都是固定偏移时退化为加一个常量秒数，
+ * 否则通过两个时区的偏移量表二分查找，不再构建ZonedDateTime对象链
+ */
+public final class ZonePairConverter {
+
+    private final ZoneId          fromZone;
+    private final ZoneId          toZone;
+    private final ZoneOffsetTable fromTable;
+    private final ZoneOffsetTable toTable;
+    private final boolean         fixed;
+    private final int             fixedDelta;
+
+    public ZonePairConverter(ZoneId fromZone, ZoneId toZone) {
+        this.fromZone = fromZone;
+        this.toZone = toZone;
+        this.fromTable = ZoneOffsetTable.of(fromZone);
+        this.toTable = ZoneOffsetTable.of(toZone);
+        this.fixed = fromTable.isFixed() && toTable.isFixed();
+        this.fixedDelta = fixed ? toTable.getFixedOffset() - fromTable.getFixedOffset() : 0;
+    }
+
+    public ZoneId getFromZone() { return fromZone; }
+    public ZoneId getToZone() { return toZone; }
+
+    /**
+     * 两个时区都是固定偏移
+     */
+    public boolean isFixed() { return fixed; }
+
+    /**
+     * 原始时区的本地时间换算为目标时区的本地时间（均按UTC计的秒数）
+     */
+    public long shiftLocalSeconds(long localSeconds) {
+        if (fixed) {
+            return localSeconds + fixedDelta;
+        }
+        long epochSecond = localSeconds - fromTable.offsetAtLocal(localSeconds);
+        return epochSecond + toTable.offsetAtInstant(epochSecond);
+    }
+
+    /**
+     * 目标时区在某一时刻的偏移量
+     */
+    public ZoneOffset toOffsetAt(long epochSecond) {
+        return ZoneOffset.ofTotalSeconds(toTable.offsetAtInstant(epochSecond));
+    }
+
+    public LocalDateTime convert(LocalDateTime value) {
+        if (fixed && fixedDelta == 0) {
+            return value;
+        }
+        long localSeconds = value.toEpochSecond(ZoneOffset.UTC);
+        return LocalDateTime.ofEpochSecond(shiftLocalSeconds(localSeconds), value.getNano(), ZoneOffset.UTC);
+    }
+
+    public OffsetDateTime convert(OffsetDateTime value) {
+        ZoneOffset offset = toOffsetAt(value.toEpochSecond());
+        return offset.equals(value.getOffset()) ? value : value.withOffsetSameInstant(offset);
+    }
+
+    /**
+     * ZonedDateTime以自身携带的时区为准，只需要换到目标时区
+     */
+    public ZonedDateTime convert(ZonedDateTime value) {
+        if (value.getZone().equals(toZone)) {
+            return value;
+        }
+        if (toZone instanceof ZoneOffset) {
+            return ZonedDateTime.ofLocal(
+                    LocalDateTime.ofEpochSecond(value.toEpochSecond(), value.getNano(), (ZoneOffset) toZone),
+                    toZone, null);
+        }
+        return value.withZoneSameInstant(toZone);
+    }
+}
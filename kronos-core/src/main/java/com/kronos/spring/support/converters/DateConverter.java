@@ -1,9 +1,10 @@
 package com.kronos.spring.support.converters;
 
 import com.kronos.spring.support.TypeConverter;
+import com.kronos.spring.support.ZonePairConverter;
+import com.kronos.spring.support.format.CompiledFormat;
 
 import java.time.ZoneId;
-import java.time.ZonedDateTime;
 import java.util.Date;
 
 /**
@@ -15,18 +16,14 @@ public class DateConverter implements TypeConverter<Date> {
 
     @Override
     public Object convert(Date value, ZoneId fromZone, ZoneId toZone, String format) {
-        if (value == null) {
-            return null;
-        }
-
-        // 转换Date到ZonedDateTime
-        ZonedDateTime zonedDateTime = value.toInstant().atZone(fromZone);
-
-        // 转换时区
-        ZonedDateTime converted = zonedDateTime.withZoneSameInstant(toZone);
+        // Date（包括java.sql的子类型）表示的是时刻，与Instant一样换时区后时刻不变，
+        // 原样返回，不分配新的对象，字段也不会被回写
+        return value;
+    }
 
-        // 转回Date
-        return Date.from(converted.toInstant());
+    @Override
+    public Object convert(Date value, ZonePairConverter zonePair, CompiledFormat format) {
+        return value;
     }
 
     @Override
@@ -1,10 +1,11 @@
 package com.kronos.spring.support.converters;
 
 import com.kronos.spring.support.TypeConverter;
+import com.kronos.spring.support.ZonePairConverter;
+import com.kronos.spring.support.format.CompiledFormat;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.time.ZonedDateTime;
 
 /**
  * @author zhangyh
@@ -17,15 +18,16 @@ public class LocalDateTimeConverter implements TypeConverter<LocalDateTime> {
         if (value == null) {
             return null;
         }
+        return new ZonePairConverter(fromZone, toZone).convert(value);
+    }
 
-        // 转换LocalDateTime到ZonedDateTime
-        ZonedDateTime zonedDateTime = value.atZone(fromZone);
-
-        // 转换时区
-        ZonedDateTime converted = zonedDateTime.withZoneSameInstant(toZone);
-
-        // 转回LocalDateTime
-        return converted.toLocalDateTime();
+    @Override
+    public Object convert(LocalDateTime value, ZonePairConverter zonePair, CompiledFormat format) {
+        if (value == null) {
+            return null;
+        }
+        // 按秒换算偏移量，不经过ZonedDateTime
+        return zonePair.convert(value);
     }
 
     @Override
@@ -1,6 +1,8 @@
 package com.kronos.spring.support.converters;
 
 import com.kronos.spring.support.TypeConverter;
+import com.kronos.spring.support.ZonePairConverter;
+import com.kronos.spring.support.format.CompiledFormat;
 
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
@@ -16,6 +18,15 @@ public class OffsetDateTimeConverter implements TypeConverter<OffsetDateTime> {
         return value.atZoneSameInstant(toZone).toOffsetDateTime();
     }
 
+    @Override
+    public Object convert(OffsetDateTime value, ZonePairConverter zonePair, CompiledFormat format) {
+        if (value == null) {
+            return null;
+        }
+        // 只替换偏移量，时刻不变
+        return zonePair.convert(value);
+    }
+
     @Override
     public Class<OffsetDateTime> supportedType() {
         return OffsetDateTime.class;
@@ -1,11 +1,16 @@
 package com.kronos.spring.support.converters;
 
 import com.kronos.spring.support.TypeConverter;
+import com.kronos.spring.support.ZonePairConverter;
+import com.kronos.spring.support.format.CompiledFormat;
+import com.kronos.spring.support.format.DateTimeDetector;
+import com.kronos.spring.support.format.DateTimeFormatRegistry;
+import com.kronos.spring.support.format.FastDateTimeCodec;
 
-import java.time.LocalDateTime;
-import java.time.ZoneId;
-import java.time.ZonedDateTime;
+import java.time.*;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQueries;
 
 /**
  * @author zhangyh
@@ -13,35 +18,91 @@ import java.time.format.DateTimeFormatter;
  * @desc
  */
 public class StringDateTimeConverter implements TypeConverter<String> {
+
+    private final DateTimeFormatRegistry formatRegistry;
+
+    public StringDateTimeConverter() {
+        this(new DateTimeFormatRegistry());
+    }
+
+    public StringDateTimeConverter(DateTimeFormatRegistry formatRegistry) {
+        this.formatRegistry = formatRegistry;
+    }
+
     @Override
     public Object convert(String value, ZoneId fromZone, ZoneId toZone, String format) {
-        if (value == null || value.trim().isEmpty()) {
+        if (value == null || value.isEmpty()) {
             return value;
         }
+        return convert(value, fromZone, toZone, formatRegistry.get(format));
+    }
+
+    @Override
+    public Object convert(String value, ZoneId fromZone, ZoneId toZone, CompiledFormat format) {
+        return convert(value, new ZonePairConverter(fromZone, toZone), format);
+    }
 
-        try {
-            // 尝试解析日期时间字符串
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern(format);
+    @Override
+    public Object convert(String value, ZonePairConverter zonePair, CompiledFormat format) {
+        if (value == null) {
+            return null;
+        }
 
-            // 先尝试解析为ZonedDateTime（如果字符串包含时区信息）
-            ZonedDateTime dateTime;
-            try {
-                dateTime = ZonedDateTime.parse(value, formatter);
-            } catch (Exception e) {
-                // 如果不是ZonedDateTime，尝试解析为LocalDateTime
-                LocalDateTime localDateTime = LocalDateTime.parse(value, formatter);
-                dateTime = localDateTime.atZone(fromZone);
+        // 先做结构预检，非日期字符串在这里直接返回，不会进入解析流程
+        switch (DateTimeDetector.detect(value, format)) {
+            case PATTERN:
+                return convertPattern(value, zonePair, format);
+            case ISO_OFFSET:
+                return convertIsoOffset(value, zonePair);
+            default:
+                // 时间戳与时区无关，其余不是时间格式的字符串，原样返回
+                return value;
+        }
+    }
+
+    /**
+     * 按配置的格式解析，格式中带时区信息时使用字符串自身的时区，否则视为原始时区的本地时间
+     */
+    private Object convertPattern(String value, ZonePairConverter zonePair, CompiledFormat format) {
+        // 默认格式走专用编解码器，只有不常见的输入才进入DateTimeFormatter
+        FastDateTimeCodec codec = format.getCodec();
+        if (codec != null) {
+            String converted = codec.convert(value, zonePair);
+            if (converted != null) {
+                return converted;
             }
+        }
 
-            // 转换时区
-            ZonedDateTime converted = dateTime.withZoneSameInstant(toZone);
+        TemporalAccessor parsed = format.parse(value);
+        if (parsed == null) {
+            return value;
+        }
+        LocalDate date = parsed.query(TemporalQueries.localDate());
+        LocalTime time = parsed.query(TemporalQueries.localTime());
+        if (date == null || time == null) {
+            return value;
+        }
+        ZoneId parsedZone = parsed.query(TemporalQueries.zone());
+        if (parsedZone == null) {
+            // 格式中不含时区，按原始时区的本地时间换算后输出
+            return zonePair.convert(LocalDateTime.of(date, time)).format(format.getFormatter());
+        }
+
+        // 转换时区并按原格式输出
+        return ZonedDateTime.of(date, time, parsedZone)
+                .withZoneSameInstant(zonePair.getToZone()).format(format.getFormatter());
+    }
 
-            // 格式化为字符串
-            return converted.format(formatter);
-        } catch (Exception e) {
-            // 如果无法解析，则认为不是时间格式的字符串，原样返回
+    /**
+     * ISO-8601字符串自带偏移量，只需换算到目标时区的偏移量
+     */
+    private Object convertIsoOffset(String value, ZonePairConverter zonePair) {
+        TemporalAccessor parsed = DateTimeDetector.parseIsoOffset(value);
+        if (parsed == null) {
             return value;
         }
+        OffsetDateTime dateTime = OffsetDateTime.from(parsed);
+        return zonePair.convert(dateTime).format(DateTimeFormatter.ISO_OFFSET_DATE_TIME);
     }
 
     @Override
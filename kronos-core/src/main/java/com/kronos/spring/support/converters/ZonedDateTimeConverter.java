@@ -1,6 +1,8 @@
 package com.kronos.spring.support.converters;
 
 import com.kronos.spring.support.TypeConverter;
+import com.kronos.spring.support.ZonePairConverter;
+import com.kronos.spring.support.format.CompiledFormat;
 
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
@@ -21,6 +23,14 @@ public class ZonedDateTimeConverter implements TypeConverter<ZonedDateTime> {
         return value.withZoneSameInstant(toZone);
     }
 
+    @Override
+    public Object convert(ZonedDateTime value, ZonePairConverter zonePair, CompiledFormat format) {
+        if (value == null) {
+            return null;
+        }
+        return zonePair.convert(value);
+    }
+
     @Override
     public Class<ZonedDateTime> supportedType() {
         return ZonedDateTime.class;
@@ -0,0 +1,69 @@
+package com.kronos.spring.support.format;
+
+import java.text.Format;
+import java.text.ParsePosition;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+
+/**
+ * @author zhangyh
+ * @Date 2026/10/18 11:20
+ * @desc 编译后的日期时间格式，同一个格式字符串只编译一次
+ */
+public class CompiledFormat {
+
+    private final String            pattern;
+    private final DateTimeFormatter formatter;
+    private final Format            parser;
+    private final PatternShape      shape;
+    private final FastDateTimeCodec codec;
+
+    CompiledFormat(String pattern, DateTimeFormatter formatter) {
+        this.pattern = pattern;
+        this.formatter = formatter;
+        this.parser = formatter.toFormat();
+        this.shape = PatternShape.of(pattern);
+        this.codec = FastDateTimeCodec.forPattern(pattern);
+    }
+
+    /**
+     * 直接编译，不经过缓存
+     */
+    public static CompiledFormat of(String pattern) {
+        return new CompiledFormat(pattern, DateTimeFormatter.ofPattern(pattern));
+    }
+
+    public String getPattern() { return pattern; }
+    public DateTimeFormatter getFormatter() { return formatter; }
+
+    /**
+     * 定长格式的结构，格式不是定长时为null
+     */
+    public PatternShape getShape() { return shape; }
+
+    /**
+     * yyyy-MM-dd HH:mm:ss这类定长布局的专用编解码器，其他格式为null
+     */
+    public FastDateTimeCodec getCodec() { return codec; }
+
+    /**
+     * 解析整个字符串，失败时返回null而不是抛出异常
+     */
+    public TemporalAccessor parse(String text) {
+        return parse(parser, text);
+    }
+
+    static TemporalAccessor parse(Format parser, String text) {
+        ParsePosition position = new ParsePosition(0);
+        Object parsed = parser.parseObject(text, position);
+        if (parsed == null || position.getErrorIndex() >= 0 || position.getIndex() != text.length()) {
+            return null;
+        }
+        return (TemporalAccessor) parsed;
+    }
+
+    @Override
+    public String toString() {
+        return pattern;
+    }
+}
@@ -0,0 +1,104 @@
+package com.kronos.spring.support.format;
+
+import java.text.Format;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+
+/**
+ * @author zhangyh
+ * @Date 2026/10/18 13:34
+ * @desc 日期时间字符串的结构预检，只按长度和数字、分隔符的位置判断布局，不抛异常也不分配对象
+ */
+public final class DateTimeDetector {
+
+    private static final int MAX_LENGTH     = 64;
+    private static final int MIN_ISO_LENGTH = 17;
+    private static final int MAX_ISO_LENGTH = 35;
+
+    private static final Format ISO_OFFSET_PARSER = DateTimeFormatter.ISO_OFFSET_DATE_TIME.toFormat();
+
+    private DateTimeDetector() {
+    }
+
+    /**
+     * 按ISO-8601带偏移量的格式解析，失败时返回null
+     */
+    public static TemporalAccessor parseIsoOffset(String text) {
+        return CompiledFormat.parse(ISO_OFFSET_PARSER, text);
+    }
+
+    /**
+     * 判断字符串的布局，格式的结构优先，其次是ISO-8601和时间戳
+     */
+    public static DateTimeLayout detect(String text, CompiledFormat format) {
+        int length = text.length();
+        if (length == 0 || length > MAX_LENGTH) {
+            return DateTimeLayout.NONE;
+        }
+
+        PatternShape shape = format.getShape();
+        if (shape != null ? shape.matches(text) : containsDigit(text)) {
+            return DateTimeLayout.PATTERN;
+        }
+        if (isIsoOffset(text)) {
+            return DateTimeLayout.ISO_OFFSET;
+        }
+        if (isEpoch(text)) {
+            return DateTimeLayout.EPOCH;
+        }
+        return DateTimeLayout.NONE;
+    }
+
+    /**
+     * yyyy-MM-ddTHH:mm[:ss[.fraction]](Z|±HH:mm)
+     */
+    static boolean isIsoOffset(String text) {
+        int length = text.length();
+        if (length < MIN_ISO_LENGTH || length > MAX_ISO_LENGTH) {
+            return false;
+        }
+        if (!isDigits(text, 0, 4) || text.charAt(4) != '-' || !isDigits(text, 5, 7) || text.charAt(7) != '-'
+                || !isDigits(text, 8, 10) || text.charAt(10) != 'T' || !isDigits(text, 11, 13)
+                || text.charAt(13) != ':' || !isDigits(text, 14, 16)) {
+            return false;
+        }
+        char last = text.charAt(length - 1);
+        if (last == 'Z') {
+            return true;
+        }
+        if (length < MIN_ISO_LENGTH + 5) {
+            return false;
+        }
+        char sign = text.charAt(length - 6);
+        return (sign == '+' || sign == '-') && text.charAt(length - 3) == ':'
+                && isDigits(text, length - 5, length - 3) && isDigits(text, length - 2, length);
+    }
+
+    /**
+     * 10位秒或13位毫秒
+     */
+    static boolean isEpoch(String text) {
+        int length = text.length();
+        return (length == 10 || length == 13) && isDigits(text, 0, length);
+    }
+
+    private static boolean containsDigit(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isDigits(String text, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
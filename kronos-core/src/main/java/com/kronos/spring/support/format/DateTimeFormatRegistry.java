@@ -0,0 +1,79 @@
+package com.kronos.spring.support.format;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @author zhangyh
+ * @Date 2026/10/18 11:24
+ * @desc 日期时间格式注册表，每个不同的格式字符串只编译一次并缓存
+ */
+public class DateTimeFormatRegistry {
+
+    /**
+     * 最多缓存的格式数量，超出后不再缓存，防止动态格式字符串撑爆内存
+     */
+    public static final int DEFAULT_MAX_SIZE = 256;
+
+    private final Map<String, CompiledFormat> formats;
+    private final int                         maxSize;
+    private final LongAdder                   hits;
+    private final LongAdder                   misses;
+
+    public DateTimeFormatRegistry() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    public DateTimeFormatRegistry(int maxSize) {
+        this.formats = new ConcurrentHashMap<>();
+        this.maxSize = maxSize;
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+    }
+
+    /**
+     * 获取编译后的格式，不存在时编译并缓存
+     */
+    public CompiledFormat get(String pattern) {
+        CompiledFormat format = formats.get(pattern);
+        if (format != null) {
+            hits.increment();
+            return format;
+        }
+
+        misses.increment();
+        format = CompiledFormat.of(pattern);
+        if (formats.size() < maxSize) {
+            CompiledFormat existing = formats.putIfAbsent(pattern, format);
+            if (existing != null) {
+                return existing;
+            }
+        }
+        return format;
+    }
+
+    /**
+     * 已缓存的格式数量
+     */
+    public int size() {
+        return formats.size();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * 缓存命中率，没有任何请求时为0
+     */
+    public double hitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+}
@@ -0,0 +1,29 @@
+package com.kronos.spring.support.format;
+
+/**
+ * @author zhangyh
+ * @Date 2026/10/18 13:30
+ * @desc 日期时间字符串的布局
+ */
+public enum DateTimeLayout {
+
+    /**
+     * 配置的格式（全局默认格式或@Time(format)）
+     */
+    PATTERN,
+
+    /**
+     * 带偏移量的ISO-8601，例如2025-05-20T08:00:00+08:00或2025-05-20T00:00:00Z
+     */
+    ISO_OFFSET,
+
+    /**
+     * 10位秒或13位毫秒的时间戳
+     */
+    EPOCH,
+
+    /**
+     * 不是日期时间字符串
+     */
+    NONE
+}
@@ -0,0 +1,208 @@
+package com.kronos.spring.support.format;
+
+import com.kronos.spring.support.ZonePairConverter;
+
+import java.time.ZoneId;
+
+/**
+ * @author zhangyh
+ * @Date 2026/10/18 14:10
+ * @desc yyyy-MM-dd HH:mm:ss这类定长布局的专用编解码器，直接从字符串中读取数字，
+ * 按秒做时区偏移的算术运算后写回字符数组，遇到不常见的输入时返回null交给通用流程处理
+ */
+public final class FastDateTimeCodec {
+
+    /**
+     * 无法处理的输入
+     */
+    public static final long INVALID = Long.MIN_VALUE;
+
+    private static final int    LENGTH              = 19;
+    private static final int[]  SEPARATOR_POSITIONS = {4, 7, 10, 13, 16};
+    private static final String TEMPLATE            = "yyyy_MM_dd_HH_mm_ss";
+
+    private static final int  SECONDS_PER_DAY    = 86400;
+    private static final long DAYS_0000_TO_1970  = 719528L;
+    private static final int  DAYS_PER_CYCLE     = 146097;
+
+    private final char[] separators;
+
+    private FastDateTimeCodec(char[] separators) {
+        this.separators = separators;
+    }
+
+    /**
+     * 格式是yyyy?MM?dd?HH?mm?ss（?为任意分隔符，日期和时间之间允许'T'）时返回编解码器，否则返回null
+     */
+    public static FastDateTimeCodec forPattern(String pattern) {
+        String expanded = pattern.replace("'T'", "T");
+        if (expanded.length() != LENGTH) {
+            return null;
+        }
+        char[] separators = new char[SEPARATOR_POSITIONS.length];
+        int separatorIndex = 0;
+        for (int i = 0; i < LENGTH; i++) {
+            char expected = TEMPLATE.charAt(i);
+            char actual = expanded.charAt(i);
+            if (expected == '_') {
+                boolean letter = (actual >= 'a' && actual <= 'z') || (actual >= 'A' && actual <= 'Z');
+                if ((letter && actual != 'T') || actual == '\'' || actual == '[' || actual == ']'
+                        || actual == '{' || actual == '}' || actual == '#') {
+                    return null;
+                }
+                separators[separatorIndex++] = actual;
+            } else if (actual != expected) {
+                return null;
+            }
+        }
+        return new FastDateTimeCodec(separators);
+    }
+
+    /**
+     * 时区转换，无法处理时返回null
+     */
+    public String convert(CharSequence text, ZoneId fromZone, ZoneId toZone) {
+        return convert(text, new ZonePairConverter(fromZone, toZone));
+    }
+
+    /**
+     * 时区转换，偏移量的计算交给时区对，无法处理时返回null
+     */
+    public String convert(CharSequence text, ZonePairConverter zonePair) {
+        long localSeconds = parse(text);
+        if (localSeconds == INVALID) {
+            return null;
+        }
+        return format(zonePair.shiftLocalSeconds(localSeconds));
+    }
+
+    /**
+     * 解析为以UTC计的本地秒数，非法或不常见的输入返回INVALID
+     */
+    public long parse(CharSequence text) {
+        if (text.length() != LENGTH) {
+            return INVALID;
+        }
+        for (int i = 0; i < SEPARATOR_POSITIONS.length; i++) {
+            if (text.charAt(SEPARATOR_POSITIONS[i]) != separators[i]) {
+                return INVALID;
+            }
+        }
+        int year = digits(text, 0, 4);
+        int month = digits(text, 5, 2);
+        int day = digits(text, 8, 2);
+        int hour = digits(text, 11, 2);
+        int minute = digits(text, 14, 2);
+        int second = digits(text, 17, 2);
+        if ((year | month | day | hour | minute | second) < 0) {
+            return INVALID;
+        }
+        // 超出范围的值（例如2月30日、24点）交给DateTimeFormatter按SMART规则处理
+        if (year < 1 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)
+                || hour > 23 || minute > 59 || second > 59) {
+            return INVALID;
+        }
+        return epochDay(year, month, day) * SECONDS_PER_DAY + hour * 3600 + minute * 60 + second;
+    }
+
+    /**
+     * 按布局输出本地秒数，年份超出四位数时返回null
+     */
+    public String format(long localSeconds) {
+        long epochDay = Math.floorDiv(localSeconds, SECONDS_PER_DAY);
+        int secondOfDay = (int) Math.floorMod(localSeconds, SECONDS_PER_DAY);
+
+        // 算法与LocalDate.ofEpochDay一致，以3月1日为一年的开始
+        long zeroDay = epochDay + DAYS_0000_TO_1970 - 60;
+        long adjust = 0;
+        if (zeroDay < 0) {
+            long adjustCycles = (zeroDay + 1) / DAYS_PER_CYCLE - 1;
+            adjust = adjustCycles * 400;
+            zeroDay += -adjustCycles * DAYS_PER_CYCLE;
+        }
+        long yearEst = (400 * zeroDay + 591) / DAYS_PER_CYCLE;
+        long doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+        if (doyEst < 0) {
+            yearEst--;
+            doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+        }
+        yearEst += adjust;
+        int marchDoy0 = (int) doyEst;
+        int marchMonth0 = (marchDoy0 * 5 + 2) / 153;
+        int month = (marchMonth0 + 2) % 12 + 1;
+        int day = marchDoy0 - (marchMonth0 * 306 + 5) / 10 + 1;
+        long year = yearEst + marchMonth0 / 10;
+        if (year < 1 || year > 9999) {
+            return null;
+        }
+
+        char[] buf = new char[LENGTH];
+        writeDigits(buf, 0, (int) year, 4);
+        buf[4] = separators[0];
+        writeDigits(buf, 5, month, 2);
+        buf[7] = separators[1];
+        writeDigits(buf, 8, day, 2);
+        buf[10] = separators[2];
+        writeDigits(buf, 11, secondOfDay / 3600, 2);
+        buf[13] = separators[3];
+        writeDigits(buf, 14, secondOfDay / 60 % 60, 2);
+        buf[16] = separators[4];
+        writeDigits(buf, 17, secondOfDay % 60, 2);
+        return new String(buf);
+    }
+
+    private static int digits(CharSequence text, int from, int count) {
+        int value = 0;
+        for (int i = from; i < from + count; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static void writeDigits(char[] buf, int from, int value, int count) {
+        for (int i = from + count - 1; i >= from; i--) {
+            buf[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    private static boolean isLeapYear(long year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return isLeapYear(year) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    /**
+     * 算法与LocalDate.toEpochDay一致
+     */
+    static long epochDay(int year, int month, int day) {
+        long y = year;
+        long total = 365 * y;
+        total += (y + 3) / 4 - (y + 99) / 100 + (y + 399) / 400;
+        total += (367 * month - 362) / 12;
+        total += day - 1;
+        if (month > 2) {
+            total--;
+            if (!isLeapYear(year)) {
+                total--;
+            }
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+}
@@ -0,0 +1,124 @@
+package com.kronos.spring.support.format;
+
+/**
+ * @author zhangyh
+ * @Date 2026/10/18 13:05
+ * @desc 定长格式的结构描述，每个位置要么是数字要么是固定字符，用于在解析前快速排除非日期字符串
+ */
+public final class PatternShape {
+
+    private final char[]    literals;
+    private final boolean[] digits;
+
+    private PatternShape(char[] literals, boolean[] digits) {
+        this.literals = literals;
+        this.digits = digits;
+    }
+
+    /**
+     * 从格式字符串推导结构，只有全部由定长数字字段和字面量组成的格式才有结构，否则返回null
+     */
+    public static PatternShape of(String pattern) {
+        StringBuilder literals = new StringBuilder();
+        StringBuilder digitFlags = new StringBuilder();
+        int i = 0;
+        while (i < pattern.length()) {
+            char c = pattern.charAt(i);
+            if (c == '\'') {
+                // 引号内为字面量，两个连续的引号表示一个引号
+                int end = i + 1;
+                if (end < pattern.length() && pattern.charAt(end) == '\'') {
+                    literals.append('\'');
+                    digitFlags.append('0');
+                    i = end + 1;
+                    continue;
+                }
+                while (end < pattern.length() && pattern.charAt(end) != '\'') {
+                    literals.append(pattern.charAt(end));
+                    digitFlags.append('0');
+                    end++;
+                }
+                if (end == pattern.length()) {
+                    return null;
+                }
+                i = end + 1;
+            } else if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')) {
+                int end = i;
+                while (end < pattern.length() && pattern.charAt(end) == c) {
+                    end++;
+                }
+                int width = fixedWidth(c, end - i);
+                if (width < 0) {
+                    return null;
+                }
+                for (int k = 0; k < width; k++) {
+                    literals.append('0');
+                    digitFlags.append('1');
+                }
+                i = end;
+            } else if (c == '[' || c == ']' || c == '{' || c == '}' || c == '#') {
+                return null;
+            } else {
+                literals.append(c);
+                digitFlags.append('0');
+                i++;
+            }
+        }
+
+        boolean[] digits = new boolean[digitFlags.length()];
+        for (int k = 0; k < digits.length; k++) {
+            digits[k] = digitFlags.charAt(k) == '1';
+        }
+        return new PatternShape(literals.toString().toCharArray(), digits);
+    }
+
+    /**
+     * 数字字段的固定宽度，不是定长数字字段时返回-1
+     */
+    private static int fixedWidth(char letter, int count) {
+        switch (letter) {
+            case 'y':
+            case 'u':
+                return count == 2 || count == 4 ? count : -1;
+            case 'M':
+            case 'd':
+            case 'H':
+            case 'h':
+            case 'k':
+            case 'K':
+            case 'm':
+            case 's':
+                return count == 2 ? 2 : -1;
+            case 'D':
+                return count == 3 ? 3 : -1;
+            case 'S':
+                return count;
+            default:
+                return -1;
+        }
+    }
+
+    public int length() {
+        return literals.length;
+    }
+
+    /**
+     * 结构是否匹配，只做长度和逐字符的比较，不分配任何对象
+     */
+    public boolean matches(CharSequence text) {
+        if (text.length() != literals.length) {
+            return false;
+        }
+        for (int i = 0; i < literals.length; i++) {
+            char c = text.charAt(i);
+            if (digits[i]) {
+                if (c < '0' || c > '9') {
+                    return false;
+                }
+            } else if (c != literals[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,15 @@
+package com.kronos.spring;
+
+import com.kronos.spring.config.KronosConfiguration;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.context.annotation.Import;
+
+/**
+ * @author zhangyh
+ * @Date 2026/10/19 16:40
+ * @desc 测试用的启动配置，@SpringBootTest向上查找配置时使用
+ */
+@SpringBootConfiguration
+@Import(KronosConfiguration.class)
+public class KronosTestApplication {
+}
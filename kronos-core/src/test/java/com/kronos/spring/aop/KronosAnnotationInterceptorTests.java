@@ -0,0 +1,381 @@
+package com.kronos.spring.aop;
+
+import com.kronos.spring.config.KronosProperty;
+import com.kronos.spring.jfr.ConversionEvent;
+import com.kronos.spring.jfr.SlowConverterEvent;
+import com.kronos.spring.reactive.TimeZoneWebFilter;
+import com.kronos.spring.support.TimeZoneContextHolder;
+import com.kronos.spring.support.TimeZoneConverter;
+import com.kronos.spring.support.ZoneIdResolver;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncManager;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KronosAnnotationInterceptorTests {
+
+    private static final ZoneId        SHANGHAI = ZoneId.of("Asia/Shanghai");
+    private static final LocalDateTime BASE     = LocalDateTime.of(2025, 5, 20, 0, 0);
+
+    private final TimeZoneConverter converter = new TimeZoneConverter(new KronosProperty(), Collections.emptyList());
+
+    private ReportService service;
+
+    @BeforeEach
+    void setUp() {
+        ProxyFactory factory = new ProxyFactory(new ReportServiceImpl());
+        factory.addInterface(ReportService.class);
+        factory.addAdvice(new KronosAnnotationInterceptor(converter));
+        service = (ReportService) factory.getProxy();
+        TimeZoneContextHolder.setZoneId(SHANGHAI);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TimeZoneContextHolder.clear();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    /**
+     * 模拟Spring MVC的异步请求，拦截器注册到这个请求的WebAsyncManager上
+     */
+    private static WebAsyncManager startAsync(MockHttpServletRequest request) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        request.setAsyncSupported(true);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+        WebAsyncManager manager = WebAsyncUtils.getAsyncManager(request);
+        manager.setAsyncWebRequest(new StandardServletAsyncWebRequest(request, response));
+        return manager;
+    }
+
+    @Test
+    void convertsStreamElementsLazily() {
+        AtomicInteger produced = new AtomicInteger();
+        Stream<LocalDateTime> stream = service.stream(produced);
+
+        assertEquals(0, produced.get(), "包装时不应物化整个流");
+        assertEquals(Stream.iterate(BASE.plusHours(8), t -> t.plusMinutes(1)).limit(3).collect(Collectors.toList()),
+                stream.collect(Collectors.toList()));
+        assertEquals(3, produced.get());
+    }
+
+    @Test
+    void convertsIteratorsAndIterablesLazily() {
+        Iterator<LocalDateTime> iterator = service.iterator();
+        assertEquals(BASE.plusHours(8), iterator.next());
+
+        Iterator<LocalDateTime> cursor = service.cursor().iterator();
+        assertEquals(BASE.plusHours(8), cursor.next());
+        assertEquals(BASE.plusHours(8).plusMinutes(1), cursor.next());
+    }
+
+    @Test
+    void leavesStreamsInResponseEntitySubclassesConsumable() {
+        ResponseEntity<Stream<LocalDateTime>> response = service.page();
+
+        assertInstanceOf(PagedResponse.class, response);
+        assertEquals(List.of(BASE), response.getBody().collect(Collectors.toList()),
+                "子类无法重建，响应体中的流不能在包装时被消费");
+    }
+
+    @Test
+    void bindsZoneWhileStreamingResponseBodyWrites() throws Exception {
+        StreamingResponseBody body = service.export();
+        TimeZoneContextHolder.clear();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        body.writeTo(out);
+
+        assertEquals(SHANGHAI.getId(), out.toString(StandardCharsets.UTF_8.name()));
+        assertNull(TimeZoneContextHolder.getZoneId(), "写出完成后恢复原来的时区");
+    }
+
+    @Test
+    void convertsAsyncResultsOnCompletion() throws Exception {
+        CompletableFuture<LocalDateTime> source = new CompletableFuture<>();
+        CompletableFuture<LocalDateTime> future = service.later(source);
+        source.complete(BASE);
+        assertEquals(BASE.plusHours(8), future.get());
+
+        // Callable在其他线程上执行时也能读到请求的时区
+        Callable<LocalDateTime> callable = service.callable();
+        TimeZoneContextHolder.clear();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            assertEquals(BASE.plusHours(8), executor.submit(callable).get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void convertsDeferredResultInPlaceOnCompletion() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        WebAsyncManager manager = startAsync(request);
+
+        DeferredResult<List<LocalDateTime>> original = new DeferredResult<>(5000L);
+        DeferredResult<List<LocalDateTime>> deferred = service.deferred(original);
+        assertSame(original, deferred, "DeferredResult保持原对象，超时和回调不受影响");
+
+        manager.startDeferredResultProcessing(deferred);
+        deferred.setResult(new ArrayList<>(List.of(BASE)));
+        assertEquals(List.of(BASE.plusHours(8)), manager.getConcurrentResult());
+    }
+
+    @Test
+    void bindsZoneAndConvertsWebAsyncTaskOnCompletion() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        WebAsyncManager manager = startAsync(request);
+
+        WebAsyncTask<List<LocalDateTime>> task = service.task();
+        assertEquals(3000L, task.getTimeout());
+
+        TimeZoneContextHolder.clear();
+        manager.startCallableProcessing(task);
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!manager.hasConcurrentResult() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(List.of(BASE.plusHours(8)), manager.getConcurrentResult());
+    }
+
+    @Test
+    void convertsReactiveResultsWithZoneFromReactorContext() {
+        TimeZoneContextHolder.clear();
+
+        LocalDateTime single = service.find(Mono.just(BASE.plusHours(8)))
+                .contextWrite(context -> context.put(TimeZoneWebFilter.ZONE_ID_KEY, SHANGHAI))
+                .block();
+        List<LocalDateTime> many = service.findAll()
+                .contextWrite(context -> context.put(TimeZoneWebFilter.ZONE_ID_KEY, SHANGHAI))
+                .collectList().block();
+
+        assertEquals(BASE.plusHours(8), single, "参数转换到后端时区，结果再转换回客户端时区");
+        assertEquals(List.of(BASE.plusHours(8), BASE.plusHours(8).plusMinutes(1)), many);
+        assertEquals(BASE, service.findAll().blockFirst(), "没有时区上下文时不转换");
+    }
+
+    @Test
+    void convertsReactiveArgumentsOnlyOnceAcrossSubscriptions() {
+        TimeZoneContextHolder.clear();
+
+        Mono<LocalDateTime> single = service.find(Mono.just(BASE.plusHours(8)))
+                .contextWrite(context -> context.put(TimeZoneWebFilter.ZONE_ID_KEY, SHANGHAI));
+
+        assertEquals(BASE.plusHours(8), single.block());
+        assertEquals(BASE.plusHours(8), single.block(), "再次订阅时方法重新执行，但参数不会再转换一次");
+    }
+
+    @Test
+    void webFilterPutsResolvedZoneIntoReactorContext() {
+        TimeZoneWebFilter filter = new TimeZoneWebFilter(new KronosProperty(), new ZoneIdResolver());
+        AtomicReference<ZoneId> captured = new AtomicReference<>();
+
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+                MockServerHttpRequest.get("/report").header("X-Time-Zone", "America/New_York"));
+        filter.filter(exchange, e -> Mono.deferContextual(context -> {
+            captured.set(TimeZoneWebFilter.getZoneId(context));
+            return Mono.empty();
+        })).block();
+        assertEquals(ZoneId.of("America/New_York"), captured.get());
+
+        MockServerWebExchange invalid = MockServerWebExchange.from(
+                MockServerHttpRequest.get("/report").header("X-Time-Zone", "Mars/Olympus"));
+        assertThrows(ResponseStatusException.class, () -> filter.filter(invalid, e -> Mono.empty()).block());
+    }
+
+    @Test
+    void emitsConversionEventWhileRecording() throws Exception {
+        Path file = Files.createTempFile("kronos", ".jfr");
+        try {
+            try (Recording recording = new Recording()) {
+                recording.enable(ConversionEvent.NAME).withThreshold(Duration.ZERO);
+                recording.start();
+                // 参数转换到后端时区，返回值再转换回客户端时区
+                assertEquals(Arrays.asList(BASE, BASE.plusMinutes(1)),
+                        service.shift(new ArrayList<>(Arrays.asList(BASE, BASE.plusMinutes(1)))));
+                recording.stop();
+                recording.dump(file);
+            }
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                    .filter(e -> e.getEventType().getName().equals(ConversionEvent.NAME))
+                    .collect(Collectors.toList());
+
+            assertEquals(1, events.size());
+            RecordedEvent event = events.get(0);
+            assertEquals("ReportService.shift", event.getString("method"));
+            assertEquals(SHANGHAI.getId(), event.getString("clientZone"));
+            assertEquals(2, event.getInt("nodesVisited"), "参数和返回值各一个List");
+            assertTrue(event.getLong("conversionTime") > 0);
+            assertFalse(event.getBoolean("cycleTracking"));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void emitsSlowConverterEventWhileRecording() throws Exception {
+        Path file = Files.createTempFile("kronos", ".jfr");
+        try {
+            try (Recording recording = new Recording()) {
+                recording.enable(SlowConverterEvent.NAME).withThreshold(Duration.ZERO);
+                recording.start();
+                service.shift(new ArrayList<>(Arrays.asList(BASE, BASE.plusMinutes(1))));
+                recording.stop();
+                recording.dump(file);
+            }
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                    .filter(e -> e.getEventType().getName().equals(SlowConverterEvent.NAME))
+                    .collect(Collectors.toList());
+            assertEquals(4, events.size(), "参数和返回值中的每个时间值各一次");
+            assertEquals(LocalDateTime.class.getName(), events.get(0).getClass("valueType").getName());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    interface ReportService {
+        List<LocalDateTime> shift(List<LocalDateTime> times);
+
+        Mono<LocalDateTime> find(Mono<LocalDateTime> at);
+
+        Flux<LocalDateTime> findAll();
+
+        Stream<LocalDateTime> stream(AtomicInteger produced);
+
+        Iterator<LocalDateTime> iterator();
+
+        Iterable<LocalDateTime> cursor();
+
+        StreamingResponseBody export();
+
+        ResponseEntity<Stream<LocalDateTime>> page();
+
+        CompletableFuture<LocalDateTime> later(CompletableFuture<LocalDateTime> source);
+
+        DeferredResult<List<LocalDateTime>> deferred(DeferredResult<List<LocalDateTime>> original);
+
+        Callable<LocalDateTime> callable();
+
+        WebAsyncTask<List<LocalDateTime>> task();
+    }
+
+    static class PagedResponse<T> extends ResponseEntity<T> {
+        PagedResponse(T body) {
+            super(body, HttpStatus.OK);
+        }
+    }
+
+    static class ReportServiceImpl implements ReportService {
+        @Override
+        public List<LocalDateTime> shift(List<LocalDateTime> times) {
+            assertEquals(BASE.minusHours(8), times.get(0));
+            return times;
+        }
+
+        @Override
+        public Mono<LocalDateTime> find(Mono<LocalDateTime> at) {
+            return at.doOnNext(value -> assertEquals(BASE, value));
+        }
+
+        @Override
+        public Flux<LocalDateTime> findAll() {
+            return Flux.just(BASE, BASE.plusMinutes(1));
+        }
+
+        @Override
+        public Stream<LocalDateTime> stream(AtomicInteger produced) {
+            return Stream.iterate(BASE, t -> t.plusMinutes(1)).limit(3).peek(t -> produced.incrementAndGet());
+        }
+
+        @Override
+        public Iterator<LocalDateTime> iterator() {
+            return Collections.singletonList(BASE).iterator();
+        }
+
+        @Override
+        public Iterable<LocalDateTime> cursor() {
+            return () -> Stream.iterate(BASE, t -> t.plusMinutes(1)).limit(2).iterator();
+        }
+
+        @Override
+        public StreamingResponseBody export() {
+            return out -> out.write(TimeZoneContextHolder.getZoneId().getId().getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public ResponseEntity<Stream<LocalDateTime>> page() {
+            return new PagedResponse<>(Stream.of(BASE));
+        }
+
+        @Override
+        public CompletableFuture<LocalDateTime> later(CompletableFuture<LocalDateTime> source) {
+            return source;
+        }
+
+        @Override
+        public DeferredResult<List<LocalDateTime>> deferred(DeferredResult<List<LocalDateTime>> original) {
+            return original;
+        }
+
+        @Override
+        public Callable<LocalDateTime> callable() {
+            return () -> {
+                assertEquals(SHANGHAI, TimeZoneContextHolder.getZoneId());
+                return BASE;
+            };
+        }
+
+        @Override
+        public WebAsyncTask<List<LocalDateTime>> task() {
+            return new WebAsyncTask<>(3000L, () -> {
+                assertEquals(SHANGHAI, TimeZoneContextHolder.getZoneId());
+                return new ArrayList<>(List.of(BASE));
+            });
+        }
+    }
+}
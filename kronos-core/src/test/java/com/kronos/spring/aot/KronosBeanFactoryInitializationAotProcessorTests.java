@@ -0,0 +1,92 @@
+package com.kronos.spring.aot;
+
+import com.kronos.spring.annotation.ConvertTime;
+import com.kronos.spring.annotation.Time;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.generate.ClassNameGenerator;
+import org.springframework.aot.generate.DefaultGenerationContext;
+import org.springframework.aot.generate.InMemoryGeneratedFiles;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.http.ResponseEntity;
+import org.springframework.javapoet.ClassName;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KronosBeanFactoryInitializationAotProcessorTests {
+
+    @Test
+    void registersHintsForTypesReachableFromConvertTimeMethods() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerBeanDefinition("orderController", new RootBeanDefinition(OrderController.class));
+        beanFactory.registerBeanDefinition("plainService", new RootBeanDefinition(PlainService.class));
+
+        BeanFactoryInitializationAotContribution contribution =
+                new KronosBeanFactoryInitializationAotProcessor().processAheadOfTime(beanFactory);
+        assertNotNull(contribution);
+        DefaultGenerationContext generationContext = new DefaultGenerationContext(
+                new ClassNameGenerator(ClassName.get("com.example", "Application")), new InMemoryGeneratedFiles());
+        contribution.applyTo(generationContext, null);
+        RuntimeHints hints = generationContext.getRuntimeHints();
+
+        // 参数、返回值的泛型参数以及字段引用的类都需要注册
+        for (Class<?> type : new Class<?>[]{Order.class, OrderLine.class, BaseEntity.class, Query.class}) {
+            assertTrue(RuntimeHintsPredicates.reflection().onType(type)
+                    .withMemberCategory(MemberCategory.DECLARED_FIELDS).test(hints), type.getName());
+        }
+        assertFalse(RuntimeHintsPredicates.reflection().onType(Unrelated.class).test(hints));
+        assertFalse(RuntimeHintsPredicates.reflection().onType(ResponseEntity.class).test(hints));
+    }
+
+    @Test
+    void registersFrameworkHints() throws Exception {
+        RuntimeHints hints = new RuntimeHints();
+        new KronosRuntimeHints().registerHints(hints, getClass().getClassLoader());
+        // 异步返回值只通过公开的WebAsyncManager接口转换，不需要DeferredResult、WebAsyncTask的反射提示
+        assertFalse(RuntimeHintsPredicates.reflection()
+                .onType(TypeReference.of("org.springframework.web.context.request.async.DeferredResult")).test(hints));
+    }
+
+    static class BaseEntity {
+        LocalDateTime createdAt;
+    }
+
+    static class Order extends BaseEntity {
+        List<OrderLine> lines;
+    }
+
+    static class OrderLine {
+        @Time
+        String deliveredAt;
+    }
+
+    static class Query {
+        Map<String, LocalDateTime> ranges;
+    }
+
+    static class Unrelated {
+        LocalDateTime at;
+    }
+
+    @ConvertTime
+    static class OrderController {
+        public ResponseEntity<List<Order>> search(Query query) {
+            return null;
+        }
+    }
+
+    static class PlainService {
+        public Unrelated find() {
+            return null;
+        }
+    }
+}
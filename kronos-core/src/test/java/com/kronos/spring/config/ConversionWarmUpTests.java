@@ -0,0 +1,135 @@
+package com.kronos.spring.config;
+
+import com.kronos.spring.annotation.ConvertTime;
+import com.kronos.spring.annotation.Time;
+import com.kronos.spring.aop.KronosAnnotationAdvisor;
+import com.kronos.spring.aop.KronosAnnotationInterceptor;
+import com.kronos.spring.support.TimeZoneConverter;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.http.ResponseEntity;
+
+import java.lang.reflect.Method;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConversionWarmUpTests {
+
+    @Test
+    void warmsTypesReachableFromProxiedMethods() {
+        KronosProperty properties = new KronosProperty();
+        properties.setWarmUpParallel(true);
+        TimeZoneConverter converter = new TimeZoneConverter(properties, Collections.emptyList());
+
+        ProxyFactory factory = new ProxyFactory(new OrderServiceImpl());
+        factory.addInterface(OrderService.class);
+        factory.addAdvisor(new KronosAnnotationAdvisor(new KronosAnnotationInterceptor(converter), ConvertTime.class));
+
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("orderService", factory.getProxy());
+        beanFactory.registerSingleton("plainService", new PlainService());
+
+        ConversionWarmUp warmUp = new ConversionWarmUp(beanFactory, converter, properties);
+        warmUp.afterSingletonsInstantiated();
+
+        // 接口方法和实现类方法各算一次，没有代理的bean不处理
+        assertEquals(2, warmUp.getWarmedMethods());
+        assertEquals(3, warmUp.getWarmedTypes(), "Order、OrderLine以及Query");
+        assertEquals(2, converter.getObjectProcessor().getPlan(Order.class).getFields().size());
+    }
+
+    @Test
+    void warmsInterceptorChainsOfJdkAndCglibProxies() throws Exception {
+        TimeZoneConverter converter = new TimeZoneConverter(new KronosProperty(), Collections.emptyList());
+        KronosAnnotationAdvisor advisor = new KronosAnnotationAdvisor(new KronosAnnotationInterceptor(converter),
+                ConvertTime.class);
+        RecordingProxyFactory jdk = new RecordingProxyFactory();
+        jdk.addInterface(OrderService.class);
+        jdk.addAdvisor(advisor);
+        RecordingProxyFactory cglib = new RecordingProxyFactory();
+        cglib.setProxyTargetClass(true);
+        cglib.addAdvisor(advisor);
+
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("jdkService", jdk.getProxy());
+        beanFactory.registerSingleton("cglibService", cglib.getProxy());
+        new ConversionWarmUp(beanFactory, converter, new KronosProperty()).afterSingletonsInstantiated();
+
+        Method search = OrderService.class.getMethod("search", Query.class);
+        assertTrue(jdk.chained.contains(search), "JDK代理以接口方法为键");
+        assertTrue(cglib.chained.contains(OrderServiceImpl.class.getMethod("search", Query.class)),
+                "CGLIB代理以实现类方法为键");
+    }
+
+    @Test
+    void invalidDefaultClientZoneDoesNotAbortStartup() {
+        KronosProperty properties = new KronosProperty();
+        properties.setDefaultClientZoneId("Mars/Olympus");
+        TimeZoneConverter converter = new TimeZoneConverter(new KronosProperty(), Collections.emptyList());
+
+        ConversionWarmUp warmUp = new ConversionWarmUp(new DefaultListableBeanFactory(), converter, properties);
+
+        assertDoesNotThrow(warmUp::afterSingletonsInstantiated);
+        assertEquals(0, warmUp.getWarmedMethods());
+    }
+
+    /**
+     * 记录计算过拦截器链的方法，代理在调用时通过同一个AdvisedSupport取得拦截器链
+     */
+    static class RecordingProxyFactory extends ProxyFactory {
+
+        final Set<Method> chained = ConcurrentHashMap.newKeySet();
+
+        RecordingProxyFactory() {
+            super(new OrderServiceImpl());
+        }
+
+        @Override
+        public List<Object> getInterceptorsAndDynamicInterceptionAdvice(Method method, Class<?> targetClass) {
+            chained.add(method);
+            return super.getInterceptorsAndDynamicInterceptionAdvice(method, targetClass);
+        }
+    }
+
+    static class Order {
+        LocalDateTime createdAt;
+        List<OrderLine> lines;
+    }
+
+    static class OrderLine {
+        @Time
+        String deliveredAt;
+    }
+
+    static class Query {
+        LocalDateTime from;
+    }
+
+    static class Unrelated {
+        LocalDateTime at;
+    }
+
+    interface OrderService {
+        ResponseEntity<List<Order>> search(Query query);
+    }
+
+    static class OrderServiceImpl implements OrderService {
+        @ConvertTime
+        @Override
+        public ResponseEntity<List<Order>> search(Query query) {
+            return null;
+        }
+    }
+
+    static class PlainService {
+        public Unrelated find() {
+            return null;
+        }
+    }
+}
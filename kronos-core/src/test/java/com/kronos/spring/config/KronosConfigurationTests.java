@@ -0,0 +1,67 @@
+package com.kronos.spring.config;
+
+import com.kronos.spring.annotation.ConvertTime;
+import com.kronos.spring.support.TimeZoneContextHolder;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class KronosConfigurationTests {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 5, 20, 0, 0);
+
+    @Autowired
+    private ReportService service;
+
+    @Autowired
+    private ConversionWarmUp warmUp;
+
+    @Test
+    void proxiesAndWarmsUpConvertTimeBeans() {
+        assertTrue(AopUtils.isAopProxy(service), "@ConvertTime的bean需要被代理");
+        assertEquals(1, warmUp.getWarmedMethods());
+        assertEquals(1, warmUp.getWarmedTypes());
+
+        TimeZoneContextHolder.setZoneId(ZoneId.of("Asia/Shanghai"));
+        try {
+            assertEquals(BASE.plusHours(8), service.latest().get(0).at);
+        } finally {
+            TimeZoneContextHolder.clear();
+        }
+    }
+
+    @SpringBootConfiguration
+    @Import(KronosConfiguration.class)
+    static class TestApplication {
+
+        @Bean
+        ReportService reportService() {
+            return new ReportService();
+        }
+    }
+
+    @ConvertTime
+    static class ReportService {
+
+        public List<Report> latest() {
+            Report report = new Report();
+            report.at = BASE;
+            return List.of(report);
+        }
+    }
+
+    static class Report {
+        LocalDateTime at;
+    }
+}
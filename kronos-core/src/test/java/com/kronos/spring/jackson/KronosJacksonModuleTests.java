@@ -0,0 +1,96 @@
+package com.kronos.spring.jackson;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.kronos.spring.annotation.Time;
+import com.kronos.spring.config.KronosProperty;
+import com.kronos.spring.support.TimeZoneContextHolder;
+import com.kronos.spring.support.TimeZoneConverter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KronosJacksonModuleTests {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .registerModule(new KronosJacksonModule(new TimeZoneConverter(new KronosProperty(), Collections.emptyList())))
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @AfterEach
+    void clear() {
+        TimeZoneContextHolder.clear();
+    }
+
+    @Test
+    void convertsWhileWritingWithoutTouchingTheObject() throws Exception {
+        Event event = new Event();
+        event.start = LocalDateTime.of(2025, 5, 20, 2, 0);
+        event.end = LocalDateTime.of(2025, 5, 20, 3, 0);
+        event.createdAt = OffsetDateTime.of(2025, 5, 20, 2, 0, 0, 0, ZoneOffset.UTC);
+        event.display = "2025-05-20 02:00:00";
+        event.slashed = "2025/05/20 02:00";
+        event.note = "2025-05-20 02:00:00";
+
+        TimeZoneContextHolder.setSerializationZoneId(ZoneId.of("Asia/Shanghai"));
+        String json = objectMapper.writeValueAsString(event);
+
+        assertTrue(json.contains("\"start\":\"2025-05-20T10:00:00\""), json);
+        assertTrue(json.contains("\"end\":\"2025/05/20 11:00\""), json);
+        assertTrue(json.contains("\"createdAt\":\"2025-05-20T10:00:00+08:00\""), json);
+        assertTrue(json.contains("\"display\":\"2025-05-20 10:00:00\""), json);
+        assertTrue(json.contains("\"slashed\":\"2025/05/20 10:00\""), json);
+        assertTrue(json.contains("\"note\":\"2025-05-20 02:00:00\""), json);
+        // 对象本身保持不变
+        assertEquals(LocalDateTime.of(2025, 5, 20, 2, 0), event.start);
+        assertEquals("2025-05-20 02:00:00", event.display);
+    }
+
+    @Test
+    void convertsWhileReading() throws Exception {
+        String json = "{\"start\":\"2025-05-20T10:00:00\",\"end\":\"2025/05/20 11:00\","
+                + "\"display\":\"2025-05-20 10:00:00\",\"note\":\"2025-05-20 10:00:00\"}";
+
+        TimeZoneContextHolder.setSerializationZoneId(ZoneId.of("Asia/Shanghai"));
+        Event event = objectMapper.readValue(json, Event.class);
+
+        assertEquals(LocalDateTime.of(2025, 5, 20, 2, 0), event.start);
+        assertEquals(LocalDateTime.of(2025, 5, 20, 3, 0), event.end);
+        assertEquals("2025-05-20 02:00:00", event.display);
+        assertEquals("2025-05-20 10:00:00", event.note);
+    }
+
+    @Test
+    void leavesValuesAloneWithoutSerializationZone() throws Exception {
+        Event event = new Event();
+        event.start = LocalDateTime.of(2025, 5, 20, 2, 0);
+        event.display = "2025-05-20 02:00:00";
+
+        TimeZoneContextHolder.setZoneId(ZoneId.of("Asia/Shanghai"));
+        String json = objectMapper.writeValueAsString(event);
+
+        assertTrue(json.contains("\"start\":\"2025-05-20T02:00:00\""), json);
+        assertTrue(json.contains("\"display\":\"2025-05-20 02:00:00\""), json);
+    }
+
+    static class Event {
+        public LocalDateTime  start;
+        @JsonFormat(pattern = "yyyy/MM/dd HH:mm")
+        public LocalDateTime  end;
+        public OffsetDateTime createdAt;
+        @Time
+        public String         display;
+        @Time(format = "yyyy/MM/dd HH:mm")
+        public String         slashed;
+        public String         note;
+    }
+}
@@ -0,0 +1,114 @@
+package com.kronos.spring.metrics;
+
+import com.kronos.spring.annotation.ConvertTime;
+import com.kronos.spring.annotation.Time;
+import com.kronos.spring.aop.KronosAnnotationAdvisor;
+import com.kronos.spring.aop.KronosAnnotationInterceptor;
+import com.kronos.spring.config.KronosProperty;
+import com.kronos.spring.support.TimeZoneContextHolder;
+import com.kronos.spring.support.TimeZoneConverter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MicrometerConversionMetricsTests {
+
+    private final TimeZoneConverter converter = new TimeZoneConverter(new KronosProperty(), Collections.emptyList());
+
+    @AfterEach
+    void clearZone() {
+        TimeZoneContextHolder.clear();
+    }
+
+    @Test
+    void recordsNothingUntilBoundToRegistry() {
+        MicrometerConversionMetrics metrics = new MicrometerConversionMetrics(converter);
+        invoke(proxy());
+
+        assertFalse(metrics.isEnabled());
+        assertSame(ConversionMetrics.NONE, converter.getMetrics());
+        assertEquals(0, converter.getObjectProcessor().getPlanStats().getHitCount());
+    }
+
+    @Test
+    void recordsTimersCountersAndCacheGauges() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        MicrometerConversionMetrics metrics = new MicrometerConversionMetrics(converter);
+        metrics.bindTo(registry);
+
+        invoke(proxy());
+
+        assertEquals(1, registry.get("kronos.conversion").tag("method", "EventService.echo")
+                .tag("direction", "request").timer().count());
+        assertEquals(1, registry.get("kronos.conversion").tag("method", "EventService.echo")
+                .tag("direction", "response").timer().count());
+        // 每个方向：List和2个Event共3个节点，2个LocalDateTime和1个日期字符串
+        assertEquals(3, registry.get("kronos.conversion.nodes").tag("direction", "request").counter().count());
+        assertEquals(3, registry.get("kronos.conversion.fields").tag("direction", "response").counter().count());
+        assertEquals(1, registry.get("kronos.conversion.strings").tag("direction", "request")
+                .tag("result", "parsed").counter().count());
+        assertEquals(1, registry.get("kronos.conversion.strings").tag("direction", "request")
+                .tag("result", "rejected").counter().count());
+        assertEquals(1, registry.get("kronos.cache.size").tag("cache", "plan").gauge().value());
+        assertTrue(registry.get("kronos.cache.hit.rate").tag("cache", "plan").gauge().value() > 0);
+
+        List<Map<String, Object>> hottest = metrics.hottest(10);
+        assertEquals(1, hottest.size());
+        assertEquals("EventService.echo", hottest.get(0).get("method"));
+
+        Map<String, Object> endpoint = new KronosEndpoint(converter, metrics).kronos();
+        assertEquals(Boolean.TRUE, endpoint.get("metricsEnabled"));
+        @SuppressWarnings("unchecked")
+        Map<String, Object> convertible = (Map<String, Object>) ((Map<String, Object>) endpoint.get("types"))
+                .get("convertible");
+        assertTrue(convertible.containsKey(Event.class.getName()));
+    }
+
+    private static List<Event> invoke(EventService service) {
+        TimeZoneContextHolder.setZoneId(ZoneId.of("Asia/Shanghai"));
+        List<Event> events = new ArrayList<>();
+        events.add(new Event(LocalDateTime.of(2025, 1, 1, 8, 0), "2025-01-01 08:00:00"));
+        events.add(new Event(LocalDateTime.of(2025, 1, 2, 8, 0), "not a date"));
+        return service.echo(events);
+    }
+
+    private EventService proxy() {
+        ProxyFactory factory = new ProxyFactory(new EventServiceImpl());
+        factory.addInterface(EventService.class);
+        factory.addAdvisor(new KronosAnnotationAdvisor(new KronosAnnotationInterceptor(converter), ConvertTime.class));
+        return (EventService) factory.getProxy();
+    }
+
+    static class Event {
+        LocalDateTime at;
+        @Time
+        String label;
+
+        Event(LocalDateTime at, String label) {
+            this.at = at;
+            this.label = label;
+        }
+    }
+
+    interface EventService {
+        List<Event> echo(List<Event> events);
+    }
+
+    @ConvertTime
+    static class EventServiceImpl implements EventService {
+        @Override
+        public List<Event> echo(List<Event> events) {
+            return events;
+        }
+    }
+}
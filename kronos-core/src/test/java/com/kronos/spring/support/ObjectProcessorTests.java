@@ -0,0 +1,442 @@
+package com.kronos.spring.support;
+
+import com.kronos.spring.annotation.Time;
+import com.kronos.spring.config.BudgetExceededPolicy;
+import com.kronos.spring.config.KronosProperty;
+import com.kronos.spring.support.converters.DateConverter;
+import com.kronos.spring.support.converters.LocalDateTimeConverter;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ObjectProcessorTests {
+
+    private static final ZoneId SHANGHAI = ZoneId.of("Asia/Shanghai");
+
+    private final TimeZoneConverter converter = new TimeZoneConverter(new KronosProperty(), Collections.emptyList());
+
+    @Test
+    void convertsAnnotatedStringsAndTemporalFields() {
+        Order order = new Order();
+        order.createdAt = LocalDateTime.of(2025, 5, 20, 8, 0);
+        order.paidAt = "2025-05-20 08:00:00";
+        order.remark = "2025-05-20 08:00:00";
+
+        converter.toClientTimeZone(order, SHANGHAI);
+
+        assertEquals(LocalDateTime.of(2025, 5, 20, 16, 0), order.createdAt);
+        assertEquals("2025-05-20 16:00:00", order.paidAt);
+        assertEquals("2025-05-20 08:00:00", order.remark, "未标注@Time的字符串不应被转换");
+    }
+
+    @Test
+    void honorsFieldLevelFormats() {
+        Order first = new Order();
+        first.dueAt = "2025/05/20 08:00";
+        Order second = new Order();
+        second.dueAt = "2025/05/21 08:00";
+
+        converter.toClientTimeZone(first, SHANGHAI);
+        converter.toClientTimeZone(second, SHANGHAI);
+
+        assertEquals("2025/05/20 16:00", first.dueAt);
+        assertEquals("2025/05/21 16:00", second.dueAt);
+        assertEquals(2, converter.getFormatRegistry().size(), "默认格式和字段格式各编译一次");
+    }
+
+    @Test
+    void writesBackFinalInstanceFields() {
+        Receipt receipt = new Receipt(LocalDateTime.of(2025, 5, 20, 8, 0));
+
+        converter.toClientTimeZone(receipt, SHANGHAI);
+
+        assertEquals(LocalDateTime.of(2025, 5, 20, 16, 0), receipt.issuedAt, "final字段（例如Lombok @Value）同样需要回写");
+    }
+
+    @Test
+    void walksNestedCollectionsAndCycles() {
+        Order order = new Order();
+        order.createdAt = LocalDateTime.of(2025, 5, 20, 8, 0);
+        Line line = new Line();
+        line.shippedAt = LocalDateTime.of(2025, 5, 21, 0, 0);
+        line.order = order;
+        order.lines.add(line);
+
+        converter.toClientTimeZone(order, SHANGHAI);
+
+        assertEquals(LocalDateTime.of(2025, 5, 20, 16, 0), order.createdAt);
+        assertEquals(LocalDateTime.of(2025, 5, 21, 8, 0), line.shippedAt);
+    }
+
+    @Test
+    void tracksCyclesByIdentityBeyondTrackingDepth() {
+        Node head = new Node();
+        Node tail = head;
+        for (int i = 0; i < 40; i++) {
+            tail.next = new Node();
+            tail = tail.next;
+        }
+        tail.next = head;
+
+        converter.toClientTimeZone(head, SHANGHAI);
+
+        Node node = head;
+        for (int i = 0; i <= 40; i++) {
+            assertEquals(LocalDateTime.of(2025, 5, 20, 16, 0), node.at, "值相等但不同的对象都需要转换");
+            node = node.next;
+        }
+    }
+
+    @Test
+    void walksDeepChainsWithoutRecursion() {
+        Node head = chain(100_000);
+
+        converter.toClientTimeZone(head, SHANGHAI);
+
+        Node node = head;
+        while (node.next != null) {
+            node = node.next;
+        }
+        assertEquals(LocalDateTime.of(2025, 5, 20, 16, 0), node.at, "十万层的链表也要转换到末尾");
+    }
+
+    @Test
+    void enforcesTraversalBudgets() {
+        KronosProperty stop = new KronosProperty();
+        stop.setMaxNodes(5);
+        stop.setBudgetExceededPolicy(BudgetExceededPolicy.STOP);
+        Node head = chain(10);
+
+        new TimeZoneConverter(stop, Collections.emptyList()).toClientTimeZone(head, SHANGHAI);
+
+        Node tail = head;
+        while (tail.next != null) {
+            tail = tail.next;
+        }
+        assertEquals(LocalDateTime.of(2025, 5, 20, 16, 0), head.at);
+        assertEquals(LocalDateTime.of(2025, 5, 20, 8, 0), tail.at, "STOP之后剩余的值原样返回");
+
+        KronosProperty fail = new KronosProperty();
+        fail.setMaxDepth(3);
+        fail.setBudgetExceededPolicy(BudgetExceededPolicy.FAIL);
+        TimeZoneConverter failing = new TimeZoneConverter(fail, Collections.emptyList());
+
+        ConversionBudgetExceededException e = assertThrows(ConversionBudgetExceededException.class,
+                () -> failing.toClientTimeZone(chain(10), SHANGHAI));
+        assertEquals(ConversionBudget.MAX_DEPTH, e.getLimit());
+
+        KronosProperty log = new KronosProperty();
+        log.setMaxDepth(3);
+        Node logged = chain(10);
+        new TimeZoneConverter(log, Collections.emptyList()).toClientTimeZone(logged, SHANGHAI);
+        assertEquals(LocalDateTime.of(2025, 5, 20, 16, 0), logged.next.next.next.next.at, "LOG只记录日志，继续转换");
+    }
+
+    @Test
+    void strictModeConvertsOnlyAnnotatedStringsAndDeclaredTemporalTypes() throws Exception {
+        KronosProperty properties = new KronosProperty();
+        properties.setStrict(true);
+        TimeZoneConverter strict = new TimeZoneConverter(properties, Collections.emptyList());
+        LocalDateTime base = LocalDateTime.of(2025, 5, 20, 8, 0);
+
+        Profile lenient = new Profile(base);
+        converter.toClientTimeZone(lenient, SHANGHAI);
+        assertEquals(List.of("2025-05-20 16:00:00"), lenient.aliases, "非严格模式转换所有像日期的字符串");
+        assertEquals(base.plusHours(8), lenient.extra);
+
+        Profile profile = new Profile(base);
+        strict.toClientTimeZone(profile, SHANGHAI);
+
+        assertEquals("2025-05-20 16:00:00", profile.birthday);
+        assertEquals(List.of("2025-05-20 16:00:00"), profile.slots);
+        assertEquals(base.plusHours(8), profile.createdAt);
+        assertEquals("2025-05-20 08:00:00", profile.nickname);
+        assertEquals(List.of("2025-05-20 08:00:00"), profile.aliases, "未标注@Time的字符串集合不转换");
+        assertEquals(base, profile.extra, "声明为Object的字段不转换");
+        assertEquals(List.of("birthday", "slots", "createdAt", "changedAt"),
+                java.util.Arrays.stream(strict.getObjectProcessor().getPlan(Profile.class).fields()).map(FieldPlan::getName).toList());
+
+        Method submit = Repository.class.getMethod("submit", String.class, String.class, List.class);
+        Object[] args = {"2025-05-20 16:00:00", "2025-05-20 16:00:00", new ArrayList<>(List.of(base))};
+        strict.argumentsToBackendTimeZone(args, SHANGHAI, null, submit);
+        assertEquals("2025-05-20 08:00:00", args[0]);
+        assertEquals("2025-05-20 16:00:00", args[1], "未标注@Time的参数不转换");
+        assertEquals(List.of(base.minusHours(8)), args[2]);
+    }
+
+    @Test
+    void planContainsOnlyFieldsThatCanHoldTimeValues() {
+        ObjectProcessor processor = new ObjectProcessor(
+                Collections.singletonMap(LocalDateTime.class, new LocalDateTimeConverter()));
+        ConversionPlan plan = processor.getPlan(Line.class);
+
+        assertEquals(2, plan.getFields().size());
+        assertTrue(processor.getPlan(Amount.class).isEmpty());
+    }
+
+    @Test
+    void typeGraphAnalysisSkipsTimeFreeSubtrees() {
+        TimeTypeAnalyzer analyzer = new TimeTypeAnalyzer(
+                Collections.singletonMap(LocalDateTime.class, new LocalDateTimeConverter()));
+
+        assertFalse(analyzer.mayContainTime(Amount.class));
+        assertFalse(analyzer.mayContainTime(Category.class), "只有自引用的类型图不包含时间数据");
+        assertTrue(analyzer.mayContainTime(Order.class));
+        assertTrue(analyzer.mayContainTime(Line.class), "通过循环引用可达的时间字段也要识别");
+
+        ObjectProcessor processor = new ObjectProcessor(
+                Collections.singletonMap(LocalDateTime.class, new LocalDateTimeConverter()));
+        assertTrue(processor.getPlan(Catalog.class).isEmpty());
+    }
+
+    @Test
+    void rebuildsRecordsAndCopiesImmutableCollectionsOnWrite() {
+        Slot changed = new Slot("a", LocalDateTime.of(2025, 5, 20, 8, 0), "2025-05-20 08:00:00");
+        Slot untouched = new Slot("b", null, null);
+        Schedule schedule = new Schedule(List.of(changed, untouched), Map.of("first", changed),
+                Collections.unmodifiableList(new ArrayList<>(List.of(untouched))), 7);
+
+        Schedule converted = converter.toClientTimeZone(schedule, SHANGHAI);
+
+        assertNotSame(schedule, converted);
+        assertEquals(7, converted.version());
+        assertEquals(LocalDateTime.of(2025, 5, 20, 16, 0), converted.slots().get(0).at());
+        assertEquals("2025-05-20 16:00:00", converted.slots().get(0).label());
+        assertSame(untouched, converted.slots().get(1), "未变化的元素按引用共享");
+        assertEquals(LocalDateTime.of(2025, 5, 20, 16, 0), converted.byName().get("first").at());
+        assertSame(schedule.idle(), converted.idle(), "没有元素变化的不可变集合不复制");
+        assertEquals(LocalDateTime.of(2025, 5, 20, 8, 0), changed.at(), "原record保持不变");
+    }
+
+    @Test
+    void convertsLargeCollectionsInParallelPreservingOrder() {
+        KronosProperty properties = new KronosProperty();
+        properties.setParallelThreshold(2000);
+        properties.setParallelism(4);
+        TimeZoneConverter parallelConverter = new TimeZoneConverter(properties, Collections.emptyList());
+        try {
+            Order parent = new Order();
+            LocalDateTime base = LocalDateTime.of(2025, 5, 20, 0, 0);
+            Line[] lines = new Line[10000];
+            for (int i = 0; i < lines.length; i++) {
+                lines[i] = new Line();
+                lines[i].shippedAt = base.plusMinutes(i);
+                lines[i].order = parent;
+                parent.lines.add(lines[i]);
+            }
+            List<LocalDateTime> times = new ArrayList<>();
+            for (int i = 0; i < 5000; i++) {
+                times.add(base.plusMinutes(i));
+            }
+
+            parallelConverter.toClientTimeZone(parent, SHANGHAI);
+            List<LocalDateTime> converted = parallelConverter.toClientTimeZone(List.copyOf(times), SHANGHAI);
+            LocalDateTime[] array = parallelConverter.toClientTimeZone(times.toArray(new LocalDateTime[0]), SHANGHAI);
+
+            for (int i = 0; i < lines.length; i++) {
+                assertEquals(base.plusMinutes(i).plusHours(8), parent.lines.get(i).shippedAt);
+            }
+            for (int i = 0; i < times.size(); i++) {
+                assertEquals(base.plusMinutes(i).plusHours(8), converted.get(i));
+                assertEquals(base.plusMinutes(i).plusHours(8), array[i]);
+            }
+        } finally {
+            parallelConverter.shutdown();
+        }
+    }
+
+    @Test
+    void sharesTraversalBudgetAcrossParallelChunks() {
+        KronosProperty properties = new KronosProperty();
+        properties.setParallelThreshold(2000);
+        properties.setParallelism(4);
+        properties.setMaxNodes(100);
+        properties.setBudgetExceededPolicy(BudgetExceededPolicy.STOP);
+        TimeZoneConverter parallelConverter = new TimeZoneConverter(properties, Collections.emptyList());
+        try {
+            LocalDateTime base = LocalDateTime.of(2025, 5, 20, 0, 0);
+            List<Line> lines = new ArrayList<>();
+            for (int i = 0; i < 10000; i++) {
+                Line line = new Line();
+                line.shippedAt = base;
+                lines.add(line);
+            }
+
+            parallelConverter.toClientTimeZone(lines, SHANGHAI);
+
+            long converted = lines.stream().filter(line -> line.shippedAt.equals(base.plusHours(8))).count();
+            // List本身占一个节点，各分块合计最多再转换99行，超出后所有分块都停止
+            assertTrue(converted > 0 && converted < 100, "实际转换了" + converted + "行");
+        } finally {
+            parallelConverter.shutdown();
+        }
+    }
+
+    @Test
+    void drivesTraversalFromDeclaredGenericTypes() throws Exception {
+        ObjectProcessor processor = converter.getObjectProcessor();
+        Method find = Repository.class.getMethod("find", Map.class);
+        assertEquals("COLLECTION<OBJECT(Line)>", processor.getReturnPlan(find).toString());
+        assertTrue(processor.getParameterPlan(find, 0).isTimeFree(), "Map<String, Long>整体跳过");
+        assertEquals(TypePlan.Kind.DYNAMIC, processor.getReturnPlan(Repository.class.getMethod("any")).getKind());
+
+        LocalDateTime base = LocalDateTime.of(2025, 5, 20, 8, 0);
+        Line line = new Line();
+        line.shippedAt = base;
+        SpecialLine special = new SpecialLine();
+        ((Line) special).shippedAt = base;
+        special.deliveredAt = base;
+
+        converter.toClientTimeZone(new ArrayList<>(List.of(line, special)), SHANGHAI, find);
+
+        assertEquals(base.plusHours(8), line.shippedAt);
+        assertEquals(base.plusHours(8), ((Line) special).shippedAt);
+        assertEquals(base.plusHours(8), special.deliveredAt, "子类元素回退到按运行时类型分派");
+    }
+
+    @Test
+    void resolvesConvertersForSubtypesAndInterfaces() {
+        Timestamp postedAt = Timestamp.valueOf("2025-05-20 08:00:00.123456789");
+        Ledger ledger = new Ledger();
+        ledger.postedAt = postedAt;
+        ledger.bookedOn = java.sql.Date.valueOf("2025-05-20");
+
+        converter.toClientTimeZone(ledger, SHANGHAI);
+
+        assertSame(postedAt, ledger.postedAt, "Timestamp使用Date的转换器，Date表示时刻，原样返回不回写");
+        assertEquals(java.sql.Date.class, ledger.bookedOn.getClass());
+
+        TypeConverterRegistry registry = new TypeConverterRegistry(
+                Collections.singletonMap(LocalDateTime.class, new LocalDateTimeConverter()));
+        assertNull(registry.find(Ticket.class));
+        DateConverter stampedConverter = new DateConverter();
+        registry.register(Stamped.class, stampedConverter);
+        assertSame(stampedConverter, registry.find(Ticket.class), "注册后之前缓存的\"没有转换器\"失效");
+        assertNotNull(registry.find(LocalDateTime.class));
+    }
+
+    interface Stamped {
+    }
+
+    static class Ticket implements Stamped {
+    }
+
+    static class Ledger {
+        private Timestamp postedAt;
+        private java.sql.Date bookedOn;
+    }
+
+    interface Repository {
+        List<Line> find(Map<String, Long> counts);
+
+        Object any();
+
+        void submit(@Time String at, String note, List<LocalDateTime> history);
+    }
+
+    record Slot(String name, LocalDateTime at, @Time String label) {
+    }
+
+    record Schedule(List<Slot> slots, Map<String, Slot> byName, List<Slot> idle, int version) {
+    }
+
+    static class Profile {
+        @Time
+        private String birthday = "2025-05-20 08:00:00";
+        private String nickname = "2025-05-20 08:00:00";
+        private List<String> aliases = new ArrayList<>(List.of("2025-05-20 08:00:00"));
+        @Time
+        private List<String> slots = new ArrayList<>(List.of("2025-05-20 08:00:00"));
+        private LocalDateTime createdAt;
+        private java.util.Date changedAt;
+        private Object extra;
+
+        Profile(LocalDateTime at) {
+            this.createdAt = at;
+            this.changedAt = Timestamp.valueOf(at);
+            this.extra = at;
+        }
+    }
+
+    static class Receipt {
+        private final LocalDateTime issuedAt;
+
+        Receipt(LocalDateTime issuedAt) {
+            this.issuedAt = issuedAt;
+        }
+    }
+
+    static class Order {
+        private LocalDateTime createdAt;
+        @Time
+        private String paidAt;
+        private String remark;
+        @Time(format = "yyyy/MM/dd HH:mm")
+        private String dueAt;
+        private Amount amount = new Amount();
+        private final List<Line> lines = new ArrayList<>();
+    }
+
+    static class Line {
+        private LocalDateTime shippedAt;
+        private Order order;
+        private int quantity;
+        private String sku;
+    }
+
+    static class SpecialLine extends Line {
+        private LocalDateTime deliveredAt;
+    }
+
+    private static Node chain(int length) {
+        Node head = new Node();
+        Node tail = head;
+        for (int i = 1; i < length; i++) {
+            tail.next = new Node();
+            tail = tail.next;
+        }
+        return head;
+    }
+
+    static class Node {
+        private LocalDateTime at = LocalDateTime.of(2025, 5, 20, 8, 0);
+        private Node next;
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Node;
+        }
+
+        @Override
+        public int hashCode() {
+            return 1;
+        }
+    }
+
+    static class Category {
+        private String name;
+        private Category parent;
+        private List<Category> children;
+    }
+
+    static class Catalog {
+        private List<Amount> prices;
+        private java.util.Map<String, Category> categories;
+        private Amount[] history;
+    }
+
+    static class Amount {
+        private BigDecimal value = BigDecimal.ONE;
+        private String currency = "CNY";
+    }
+}
@@ -0,0 +1,92 @@
+package com.kronos.spring.support;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.DateTimeException;
+import java.time.ZoneId;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class TimeZoneContextHolderTests {
+
+    private static final ZoneId SHANGHAI = ZoneId.of("Asia/Shanghai");
+    private static final ZoneId TOKYO    = ZoneId.of("Asia/Tokyo");
+
+    @AfterEach
+    void reset() {
+        TimeZoneContextHolder.clear();
+        TimeZoneContextHolder.setStrategy(new ThreadLocalTimeZoneContextStrategy());
+    }
+
+    @Test
+    void propagatesZoneToExecutorThreads() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // 工作线程上残留的时区在任务执行期间被替换，执行后恢复
+            executor.submit(() -> TimeZoneContextHolder.setZoneId(TOKYO)).get();
+
+            TimeZoneContextHolder.setZoneId(SHANGHAI);
+            TimeZoneContextHolder.setSerializationZoneId(SHANGHAI);
+            CompletableFuture<ZoneId> future = CompletableFuture.supplyAsync(TimeZoneContextHolder::getZoneId,
+                    TimeZoneContextHolder.wrapExecutor(executor));
+            assertEquals(SHANGHAI, future.get());
+
+            Runnable decorated = new TimeZoneTaskDecorator().decorate(() ->
+                    assertEquals(SHANGHAI, TimeZoneContextHolder.getSerializationZoneId()));
+            executor.submit(decorated).get();
+
+            assertEquals(TOKYO, executor.submit(TimeZoneContextHolder::getZoneId).get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void parsesStringZonesLenientlyOrStrictly() {
+        TimeZoneContextHolder.setTimeZone("Mars/Olympus");
+        assertEquals(ZoneId.of("GMT"), TimeZoneContextHolder.getZoneId(), "与TimeZone.getTimeZone一致，无法识别时按GMT处理");
+
+        assertThrows(DateTimeException.class, () -> TimeZoneContextHolder.setTimeZoneStrict("Mars/Olympus"));
+        TimeZoneContextHolder.setTimeZoneStrict("Asia/Shanghai");
+        assertEquals(SHANGHAI, TimeZoneContextHolder.getZoneId());
+    }
+
+    @Test
+    void restoresPreviousContextAfterBinding() throws Exception {
+        TimeZoneContextHolder.setZoneId(TOKYO);
+        ZoneId inside = TimeZoneContextHolder.callWith(TimeZoneContext.of(SHANGHAI, null),
+                TimeZoneContextHolder::getZoneId);
+        assertEquals(SHANGHAI, inside);
+        assertEquals(TOKYO, TimeZoneContextHolder.getZoneId());
+
+        TimeZoneContextHolder.clear();
+        assertSame(TimeZoneContext.EMPTY, TimeZoneContextHolder.getContext());
+    }
+
+    @Test
+    void bindsZoneThroughScopedValue() throws Exception {
+        assumeTrue(ScopedValueTimeZoneContextStrategy.isAvailable(), "需要Java 21+的ScopedValue");
+        TimeZoneContextHolder.setStrategy(new ScopedValueTimeZoneContextStrategy());
+
+        assertNull(TimeZoneContextHolder.getZoneId());
+        assertThrows(IllegalStateException.class, () -> TimeZoneContextHolder.setZoneId(SHANGHAI));
+
+        // 与TimeZoneScopeFilter一致：先绑定空的作用域，再由拦截器写入
+        ZoneId inside = TimeZoneContextHolder.callWith(TimeZoneContext.EMPTY, () -> {
+            TimeZoneContextHolder.setZoneId(SHANGHAI);
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            try {
+                return executor.submit(TimeZoneContextHolder.wrap(TimeZoneContextHolder::getZoneId)).get();
+            } finally {
+                executor.shutdownNow();
+            }
+        });
+        assertEquals(SHANGHAI, inside);
+        assertNull(TimeZoneContextHolder.getZoneId());
+    }
+}
@@ -0,0 +1,46 @@
+package com.kronos.spring.support;
+
+import com.kronos.spring.config.KronosProperty;
+import org.junit.jupiter.api.Test;
+
+import java.time.DateTimeException;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ZoneIdResolverTests {
+
+    private final ZoneIdResolver resolver = new ZoneIdResolver();
+
+    @Test
+    void resolvesAliasesAndOffsetsToCanonicalZones() {
+        for (String alias : new String[]{"UTC", "Etc/UTC", "Z", "GMT", "+00:00", "utc", " UTC "}) {
+            assertSame(ZoneOffset.UTC, resolver.resolve(alias), alias);
+        }
+        assertEquals(ZoneOffset.ofHours(8), resolver.resolve("+08:00"));
+        assertEquals(ZoneOffset.ofHours(8), resolver.resolve("+0800"));
+        assertEquals(ZoneOffset.ofHours(8), resolver.resolve("GMT+8"));
+        assertEquals(ZoneOffset.ofHours(8), resolver.resolve("Etc/GMT-8"));
+        assertEquals(ZoneId.of("Asia/Shanghai"), resolver.resolve("Asia/Shanghai"));
+
+        assertSame(resolver.resolve("Asia/Shanghai"), resolver.resolve("Asia/Shanghai"));
+        assertTrue(resolver.getHitCount() > 0);
+    }
+
+    @Test
+    void rejectsUnknownZones() {
+        assertThrows(DateTimeException.class, () -> resolver.resolve("Mars/Olympus"));
+        assertThrows(DateTimeException.class, () -> resolver.resolve("+25:00"));
+    }
+
+    @Test
+    void detectsZonesEquivalentToBackend() {
+        TimeZoneConverter converter = new TimeZoneConverter(new KronosProperty(), Collections.emptyList());
+
+        assertTrue(converter.isBackendEquivalent(ZoneOffset.UTC));
+        assertTrue(converter.isBackendEquivalent(ZoneId.of("Etc/UTC")));
+        assertFalse(converter.isBackendEquivalent(ZoneId.of("Europe/London")));
+    }
+}
@@ -0,0 +1,77 @@
+package com.kronos.spring.support;
+
+import com.kronos.spring.config.KronosProperty;
+import org.junit.jupiter.api.Test;
+
+import java.time.*;
+import java.time.zone.ZoneOffsetTransition;
+import java.util.Collections;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ZonePairConverterTests {
+
+    private static final String[] ZONES = {
+            "UTC", "Asia/Shanghai", "America/New_York", "Europe/London", "Australia/Lord_Howe",
+            "America/Sao_Paulo", "Asia/Kolkata", "Pacific/Apia", "+05:45", "-03:00"
+    };
+
+    @Test
+    void matchesJavaTimeAcrossZonesAndYears() {
+        Random random = new Random(42);
+        long min = LocalDateTime.of(1850, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+        long max = LocalDateTime.of(2150, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+        for (String from : ZONES) {
+            for (String to : ZONES) {
+                ZonePairConverter zonePair = new ZonePairConverter(ZoneId.of(from), ZoneId.of(to));
+                for (int i = 0; i < 2000; i++) {
+                    long seconds = min + (long) (random.nextDouble() * (max - min));
+                    LocalDateTime local = LocalDateTime.ofEpochSecond(seconds, random.nextInt(1000) * 1000, ZoneOffset.UTC);
+                    assertEquals(expected(local, from, to), zonePair.convert(local), from + " -> " + to + " " + local);
+
+                    OffsetDateTime offsetDateTime = local.atOffset(ZoneOffset.ofHours(random.nextInt(25) - 12));
+                    assertEquals(offsetDateTime.atZoneSameInstant(ZoneId.of(to)).toOffsetDateTime(),
+                            zonePair.convert(offsetDateTime));
+                }
+            }
+        }
+    }
+
+    @Test
+    void resolvesGapsAndOverlapsLikeAtZone() {
+        ZoneId newYork = ZoneId.of("America/New_York");
+        ZonePairConverter zonePair = new ZonePairConverter(newYork, ZoneOffset.UTC);
+        ZoneOffsetTransition transition = newYork.getRules().nextTransition(Instant.parse("2000-01-01T00:00:00Z"));
+        int checked = 0;
+        while (transition.getInstant().getEpochSecond() < 4102444800L) {
+            LocalDateTime start = transition.getDateTimeBefore().minusHours(2);
+            for (int minutes = 0; minutes <= 240; minutes += 15) {
+                LocalDateTime local = start.plusMinutes(minutes);
+                assertEquals(expected(local, "America/New_York", "UTC"), zonePair.convert(local), local.toString());
+                checked++;
+            }
+            transition = newYork.getRules().nextTransition(transition.getInstant());
+        }
+        assertTrue(checked > 0);
+        assertTrue(ZoneOffsetTable.of(newYork).size() > 0);
+        assertTrue(ZoneOffsetTable.of(ZoneOffset.ofHours(8)).isFixed());
+    }
+
+    @Test
+    void cachesPairsPerClientZone() {
+        TimeZoneConverter converter = new TimeZoneConverter(new KronosProperty(), Collections.emptyList());
+        ZoneId client = ZoneOffset.ofHours(8);
+        ZoneId backend = converter.getBackendZoneId();
+
+        ZonePairConverter toBackend = converter.getZonePair(client, backend);
+        assertSame(toBackend, converter.getZonePair(client, backend));
+        assertNotSame(toBackend, converter.getZonePair(backend, client));
+        assertTrue(toBackend.isFixed());
+        assertEquals(LocalDateTime.of(2025, 5, 20, 2, 0), toBackend.convert(LocalDateTime.of(2025, 5, 20, 10, 0)));
+    }
+
+    private static LocalDateTime expected(LocalDateTime local, String from, String to) {
+        return local.atZone(ZoneId.of(from)).withZoneSameInstant(ZoneId.of(to)).toLocalDateTime();
+    }
+}
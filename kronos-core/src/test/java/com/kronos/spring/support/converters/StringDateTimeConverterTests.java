@@ -0,0 +1,80 @@
+package com.kronos.spring.support.converters;
+
+import com.kronos.spring.support.format.CompiledFormat;
+import com.kronos.spring.support.format.DateTimeDetector;
+import com.kronos.spring.support.format.DateTimeLayout;
+import com.kronos.spring.support.format.FastDateTimeCodec;
+import com.kronos.spring.support.format.PatternShape;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StringDateTimeConverterTests {
+
+    private static final ZoneId UTC      = ZoneId.of("UTC");
+    private static final ZoneId SHANGHAI = ZoneId.of("Asia/Shanghai");
+
+    private final StringDateTimeConverter converter = new StringDateTimeConverter();
+    private final CompiledFormat          format    = CompiledFormat.of("yyyy-MM-dd HH:mm:ss");
+
+    @Test
+    void convertsConfiguredPattern() {
+        assertEquals("2025-05-20 16:00:00", converter.convert("2025-05-20 08:00:00", UTC, SHANGHAI, format));
+        assertEquals("2025-05-19 16:00:00", converter.convert("2025-05-20 00:00:00", SHANGHAI, UTC, format));
+    }
+
+    @Test
+    void fastCodecMatchesJavaTime() {
+        FastDateTimeCodec codec = FastDateTimeCodec.forPattern("yyyy-MM-dd HH:mm:ss");
+        DateTimeFormatter formatter = format.getFormatter();
+        ZoneId[] zones = {UTC, SHANGHAI, ZoneId.of("America/New_York"), ZoneId.of("Europe/London"),
+                ZoneId.of("Australia/Lord_Howe"), ZoneId.of("+05:45")};
+        Random random = new Random(20250520);
+        for (int i = 0; i < 20000; i++) {
+            LocalDateTime local = LocalDateTime.ofEpochSecond(random.nextInt(Integer.MAX_VALUE) * 2L - 2208988800L, 0, ZoneOffset.UTC);
+            ZoneId from = zones[random.nextInt(zones.length)];
+            ZoneId to = zones[random.nextInt(zones.length)];
+            String text = local.format(formatter);
+            String expected = local.atZone(from).withZoneSameInstant(to).format(formatter);
+            assertEquals(expected, codec.convert(text, from, to), text + " " + from + " -> " + to);
+        }
+
+        assertNull(codec.convert("2025-02-30 08:00:00", UTC, SHANGHAI), "不常见的输入交给通用流程");
+        assertEquals("2025-02-28 16:00:00", converter.convert("2025-02-30 08:00:00", UTC, SHANGHAI, format));
+        assertNull(FastDateTimeCodec.forPattern("yyyy-MM-dd HH:mm"));
+        assertNotNull(FastDateTimeCodec.forPattern("yyyy/MM/dd'T'HH:mm:ss"));
+    }
+
+    @Test
+    void convertsIsoOffsetStrings() {
+        assertEquals("2025-05-20T16:00:00+08:00", converter.convert("2025-05-20T08:00:00Z", UTC, SHANGHAI, format));
+        assertEquals("2025-05-20T00:00:00Z", converter.convert("2025-05-20T08:00:00+08:00", SHANGHAI, UTC, format));
+    }
+
+    @Test
+    void leavesOtherStringsUntouched() {
+        for (String value : new String[]{"", "Alice", "SKU-2025-05", "2025-13-45 99:99:99", "1716192000000",
+                "2025-05-20", "2025-05-20 08:00"}) {
+            assertSame(value, converter.convert(value, UTC, SHANGHAI, format), value);
+        }
+    }
+
+    @Test
+    void detectsLayoutStructurally() {
+        assertEquals(DateTimeLayout.PATTERN, DateTimeDetector.detect("2025-05-20 08:00:00", format));
+        assertEquals(DateTimeLayout.ISO_OFFSET, DateTimeDetector.detect("2025-05-20T08:00:00.123+08:00", format));
+        assertEquals(DateTimeLayout.EPOCH, DateTimeDetector.detect("1716192000", format));
+        assertEquals(DateTimeLayout.NONE, DateTimeDetector.detect("hello world", format));
+
+        assertEquals(19, PatternShape.of("yyyy-MM-dd HH:mm:ss").length());
+        assertEquals(19, PatternShape.of("yyyy-MM-dd'T'HH:mm:ss").length());
+        assertNull(PatternShape.of("yyyy-MM-dd HH:mm:ssXXX"));
+        assertNull(PatternShape.of("d MMM yyyy"));
+    }
+}
@@ -0,0 +1,410 @@
+package com.kronos.spring.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+
+/**
+ * @author zhangyh
+ * @Date 2026/10/19 10:30
+ * @desc 为本次编译中可能承载时间数据的类生成KronosAccessor实现，生成类与目标类位于同一个包中。
+ * 判断规则与运行时的TimeTypeAnalyzer一致，只看类自身声明的字段：标注@Time的字段、时间类型、Object和类型变量，
+ * 以及元素、value或字段图中含有这些类型的集合、Map、数组和自定义类。父类的字段由父类自己的访问器覆盖，
+ * 因此同一次编译中的父类即使没有@Time字段也会生成。
+ * 非私有字段直接读写，私有字段通过getter/setter读写；final字段和两者都不可用的字段不生成，运行时回退到反射。
+ * 依赖jar中已经编译好的类不会生成
+ */
+@SupportedAnnotationTypes("*")
+public class KronosAccessorProcessor extends AbstractProcessor {
+
+    static final String TIME_ANNOTATION = "com.kronos.spring.annotation.Time";
+    static final String ACCESSOR_TYPE   = "com.kronos.spring.support.KronosAccessor";
+    static final String SUFFIX          = "$$KronosAccessor";
+
+    private static final Set<String> TIME_TYPES = Set.of(
+            "java.time.LocalDateTime", "java.time.LocalDate", "java.time.LocalTime", "java.time.ZonedDateTime",
+            "java.time.OffsetDateTime", "java.time.Instant");
+
+    // 跨轮次记录已经生成的类，避免重复创建源文件
+    private final Set<String> generated = new HashSet<>();
+
+    // 类型分析结果，false表示该类的字段图中不可能出现时间数据
+    private final Map<String, Boolean> analyzed = new HashMap<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (processingEnv.getElementUtils().getTypeElement(ACCESSOR_TYPE) == null) {
+            return false;
+        }
+        Deque<TypeElement> types = new ArrayDeque<>(ElementFilter.typesIn(roundEnv.getRootElements()));
+        while (!types.isEmpty()) {
+            TypeElement type = types.poll();
+            types.addAll(ElementFilter.typesIn(type.getEnclosedElements()));
+            if ((type.getKind() == ElementKind.CLASS || type.getKind() == ElementKind.RECORD)
+                    && isAccessibleFromPackage(type) && declaresTimeField(type)
+                    && generated.add(type.getQualifiedName().toString())) {
+                generate(type);
+            }
+        }
+        // 不独占任何注解，其他处理器仍然可以处理
+        return false;
+    }
+
+    /**
+     * 类自身声明的实例字段中是否有可能承载时间数据的字段
+     */
+    private boolean declaresTimeField(TypeElement type) {
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            if (!field.getModifiers().contains(Modifier.STATIC) && mayFieldContainTime(field, new HashSet<>())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean mayFieldContainTime(VariableElement field, Set<String> visiting) {
+        if (field.asType().getKind().isPrimitive()) {
+            return false;
+        }
+        if (isAnnotatedWithTime(field)) {
+            return true;
+        }
+        // 普通字符串字段只在标注@Time时才会转换
+        if (isType(field.asType(), "java.lang.String")) {
+            return false;
+        }
+        return mayContainTime(field.asType(), visiting);
+    }
+
+    /**
+     * 按声明类型判断，无法确定的类型（Object、类型变量、接口和抽象类）视为可能包含时间数据
+     */
+    private boolean mayContainTime(TypeMirror type, Set<String> visiting) {
+        switch (type.getKind()) {
+            case ARRAY:
+                return mayContainTime(((ArrayType) type).getComponentType(), visiting);
+            case DECLARED:
+                break;
+            case WILDCARD:
+                TypeMirror bound = ((WildcardType) type).getExtendsBound();
+                return bound == null || mayContainTime(bound, visiting);
+            case TYPEVAR:
+            case INTERSECTION:
+            case ERROR:
+                return true;
+            default:
+                return false;
+        }
+        DeclaredType declared = (DeclaredType) type;
+        TypeElement element = (TypeElement) declared.asElement();
+        String name = element.getQualifiedName().toString();
+        if (name.equals("java.lang.Object")) {
+            return true;
+        }
+        if (element.getKind() == ElementKind.ENUM || name.equals("java.lang.String")) {
+            return false;
+        }
+        if (TIME_TYPES.contains(name) || isSubtype(declared, "java.util.Date")) {
+            return true;
+        }
+        List<? extends TypeMirror> arguments = declared.getTypeArguments();
+        if (isSubtype(declared, "java.util.Collection")) {
+            return arguments.size() != 1 || mayContainTime(arguments.get(0), visiting);
+        }
+        if (isSubtype(declared, "java.util.Map")) {
+            // Map只处理value
+            return arguments.size() != 2 || mayContainTime(arguments.get(1), visiting);
+        }
+        if (isSubtype(declared, "java.lang.Number")) {
+            return false;
+        }
+        // 接口和抽象类无法得知运行时的实现
+        if (element.getKind().isInterface() || element.getModifiers().contains(Modifier.ABSTRACT)) {
+            return true;
+        }
+        if (name.startsWith("java.") || name.startsWith("javax.")) {
+            return false;
+        }
+        return mayClassContainTime(element, visiting);
+    }
+
+    private boolean mayClassContainTime(TypeElement type, Set<String> visiting) {
+        String name = type.getQualifiedName().toString();
+        Boolean cached = analyzed.get(name);
+        if (cached != null) {
+            return cached;
+        }
+        // 正在分析的类先假设不可达，由外层的字段确认结果
+        if (!visiting.add(name)) {
+            return false;
+        }
+        boolean result = false;
+        for (TypeElement current = type; current != null; current = superclass(current)) {
+            for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                if (!field.getModifiers().contains(Modifier.STATIC) && mayFieldContainTime(field, visiting)) {
+                    result = true;
+                    break;
+                }
+            }
+            if (result) {
+                break;
+            }
+        }
+        visiting.remove(name);
+        if (result || visiting.isEmpty()) {
+            analyzed.put(name, result);
+        }
+        return result;
+    }
+
+    private TypeElement superclass(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        TypeElement element = (TypeElement) ((DeclaredType) superclass).asElement();
+        return element.getQualifiedName().contentEquals("java.lang.Object") ? null : element;
+    }
+
+    private boolean isAnnotatedWithTime(Element element) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            if (((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName()
+                    .contentEquals(TIME_ANNOTATION)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isType(TypeMirror type, String name) {
+        return type.getKind() == TypeKind.DECLARED
+                && ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().contentEquals(name);
+    }
+
+    private boolean isSubtype(DeclaredType type, String name) {
+        TypeElement target = processingEnv.getElementUtils().getTypeElement(name);
+        Types types = processingEnv.getTypeUtils();
+        return target != null && types.isSubtype(types.erasure(type), types.erasure(target.asType()));
+    }
+
+    private void generate(TypeElement owner) {
+        List<FieldAccess> fields = owner.getKind() == ElementKind.RECORD ? recordFields(owner) : classFields(owner);
+        if (fields.isEmpty()) {
+            return;
+        }
+        String packageName = processingEnv.getElementUtils().getPackageOf(owner).getQualifiedName().toString();
+        String binaryName = processingEnv.getElementUtils().getBinaryName(owner).toString();
+        String simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1))
+                + SUFFIX;
+        String targetType = processingEnv.getTypeUtils().erasure(owner.asType()).toString();
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(
+                    packageName.isEmpty() ? simpleName : packageName + "." + simpleName, owner);
+            try (Writer writer = file.openWriter()) {
+                writer.write(render(packageName, simpleName, targetType, fields, owner.getKind() == ElementKind.RECORD));
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "无法生成KronosAccessor，运行时将使用反射: " + e.getMessage(), owner);
+        }
+    }
+
+    /**
+     * record按组件顺序通过访问方法读取，组件不可写入
+     */
+    private List<FieldAccess> recordFields(TypeElement owner) {
+        List<FieldAccess> fields = new ArrayList<>();
+        for (RecordComponentElement component : owner.getRecordComponents()) {
+            String name = component.getSimpleName().toString();
+            fields.add(new FieldAccess(name, typeName(component.asType()), "t." + name + "()", null));
+        }
+        return fields;
+    }
+
+    /**
+     * 普通类只生成可以读写的字段，final字段由运行时通过反射写入
+     */
+    private List<FieldAccess> classFields(TypeElement owner) {
+        List<FieldAccess> fields = new ArrayList<>();
+        for (VariableElement field : ElementFilter.fieldsIn(owner.getEnclosedElements())) {
+            Set<Modifier> modifiers = field.getModifiers();
+            if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.FINAL)) {
+                continue;
+            }
+            String name = field.getSimpleName().toString();
+            String type = typeName(field.asType());
+            if (!modifiers.contains(Modifier.PRIVATE)) {
+                fields.add(new FieldAccess(name, type, "t." + name, "t." + name + " = (" + type + ") value"));
+                continue;
+            }
+            ExecutableElement getter = findGetter(owner, field);
+            ExecutableElement setter = findSetter(owner, field);
+            if (getter != null && setter != null) {
+                fields.add(new FieldAccess(name, type, "t." + getter.getSimpleName() + "()",
+                        "t." + setter.getSimpleName() + "((" + type + ") value)"));
+            }
+        }
+        return fields;
+    }
+
+    private ExecutableElement findGetter(TypeElement owner, VariableElement field) {
+        String suffix = capitalize(field.getSimpleName().toString());
+        for (ExecutableElement method : accessibleMethods(owner)) {
+            String name = method.getSimpleName().toString();
+            if ((name.equals("get" + suffix) || (name.equals("is" + suffix) && field.asType().getKind() == TypeKind.BOOLEAN))
+                    && method.getParameters().isEmpty()
+                    && processingEnv.getTypeUtils().isSameType(method.getReturnType(), field.asType())) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    private ExecutableElement findSetter(TypeElement owner, VariableElement field) {
+        String name = "set" + capitalize(field.getSimpleName().toString());
+        for (ExecutableElement method : accessibleMethods(owner)) {
+            if (method.getSimpleName().contentEquals(name) && method.getParameters().size() == 1
+                    && processingEnv.getTypeUtils().isSameType(method.getParameters().get(0).asType(), field.asType())) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 生成类与目标类同包，可以调用公有方法和同包声明的非私有方法
+     */
+    private List<ExecutableElement> accessibleMethods(TypeElement owner) {
+        PackageElement ownerPackage = processingEnv.getElementUtils().getPackageOf(owner);
+        List<ExecutableElement> methods = new ArrayList<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(owner))) {
+            Set<Modifier> modifiers = method.getModifiers();
+            if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.PRIVATE)) {
+                continue;
+            }
+            if (modifiers.contains(Modifier.PUBLIC)
+                    || processingEnv.getElementUtils().getPackageOf(method).equals(ownerPackage)) {
+                methods.add(method);
+            }
+        }
+        return methods;
+    }
+
+    /**
+     * 私有类、局部类和匿名类无法从同包的生成类中引用
+     */
+    private static boolean isAccessibleFromPackage(TypeElement type) {
+        Element current = type;
+        while (current instanceof TypeElement) {
+            TypeElement element = (TypeElement) current;
+            if (element.getModifiers().contains(Modifier.PRIVATE)
+                    || element.getNestingKind() == NestingKind.LOCAL
+                    || element.getNestingKind() == NestingKind.ANONYMOUS) {
+                return false;
+            }
+            current = element.getEnclosingElement();
+        }
+        return true;
+    }
+
+    private String typeName(TypeMirror type) {
+        return processingEnv.getTypeUtils().erasure(type).toString();
+    }
+
+    private static String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static String render(String packageName, String simpleName, String targetType, List<FieldAccess> fields,
+                                 boolean record) {
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        // 生成的源文件按编译器的默认编码写出，只使用ASCII字符
+        source.append("/**\n * Generated by kronos-processor, do not edit.\n */\n");
+        source.append("@SuppressWarnings({\"rawtypes\", \"unchecked\"})\n");
+        source.append("public final class ").append(simpleName).append(" implements ").append(ACCESSOR_TYPE)
+                .append(record ? ".Instantiable" : ".Writable").append(" {\n\n");
+
+        source.append("    private static final String[] FIELD_NAMES = {");
+        for (int i = 0; i < fields.size(); i++) {
+            source.append(i == 0 ? "" : ", ").append('"').append(fields.get(i).name).append('"');
+        }
+        source.append("};\n\n");
+
+        source.append("    @Override\n    public Class<?> targetType() {\n        return ").append(targetType)
+                .append(".class;\n    }\n\n");
+        source.append("    @Override\n    public String[] fieldNames() {\n        return FIELD_NAMES;\n    }\n\n");
+
+        source.append("    @Override\n    public Object get(Object target, int index) {\n");
+        source.append("        ").append(targetType).append(" t = (").append(targetType).append(") target;\n");
+        source.append("        switch (index) {\n");
+        for (int i = 0; i < fields.size(); i++) {
+            source.append("            case ").append(i).append(":\n                return ")
+                    .append(fields.get(i).read).append(";\n");
+        }
+        source.append("            default:\n                throw new IndexOutOfBoundsException(String.valueOf(index));\n");
+        source.append("        }\n    }\n");
+
+        if (record) {
+            source.append("\n    @Override\n    public Object newInstance(Object[] components) {\n");
+            source.append("        return new ").append(targetType).append("(");
+            for (int i = 0; i < fields.size(); i++) {
+                source.append(i == 0 ? "" : ", ").append('(').append(fields.get(i).type).append(") components[")
+                        .append(i).append(']');
+            }
+            source.append(");\n    }\n");
+        } else {
+            // 普通类的字段都可以写入，下标与get一致
+            source.append("\n    @Override\n    public void set(Object target, int index, Object value) {\n");
+            source.append("        ").append(targetType).append(" t = (").append(targetType).append(") target;\n");
+            source.append("        switch (index) {\n");
+            for (int i = 0; i < fields.size(); i++) {
+                source.append("            case ").append(i).append(":\n                ")
+                        .append(fields.get(i).write).append(";\n                return;\n");
+            }
+            source.append("            default:\n                throw new IndexOutOfBoundsException(String.valueOf(index));\n");
+            source.append("        }\n    }\n");
+        }
+        source.append("}\n");
+        return source.toString();
+    }
+
+    /**
+     * 单个字段的读写表达式，record组件的write为null
+     */
+    private static final class FieldAccess {
+
+        private final String name;
+        private final String type;
+        private final String read;
+        private final String write;
+
+        FieldAccess(String name, String type, String read, String write) {
+            this.name = name;
+            this.type = type;
+            this.read = read;
+            this.write = write;
+        }
+    }
+}
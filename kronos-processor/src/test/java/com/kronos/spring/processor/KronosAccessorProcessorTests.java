@@ -0,0 +1,166 @@
+package com.kronos.spring.processor;
+
+import com.kronos.spring.annotation.Time;
+import com.kronos.spring.support.ConversionContext;
+import com.kronos.spring.support.ConversionPlan;
+import com.kronos.spring.support.FieldPlan;
+import com.kronos.spring.support.KronosAccessor;
+import com.kronos.spring.support.ObjectProcessor;
+import com.kronos.spring.support.TypeConverter;
+import com.kronos.spring.support.converters.LocalDateTimeConverter;
+import com.kronos.spring.support.converters.StringDateTimeConverter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.lang.reflect.Field;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KronosAccessorProcessorTests {
+
+    private static final String ORDER = "package demo;\n"
+            + "import com.kronos.spring.annotation.Time;\n"
+            + "import java.time.LocalDateTime;\n"
+            + "public class Order {\n"
+            + "    @Time LocalDateTime createdAt;\n"
+            + "    private LocalDateTime paidAt;\n"
+            + "    @Time(format = \"yyyy/MM/dd HH:mm:ss\") private String shippedAt;\n"
+            + "    private LocalDateTime hidden;\n"
+            + "    final LocalDateTime closedAt = LocalDateTime.of(2025, 5, 20, 0, 0);\n"
+            + "    public LocalDateTime getPaidAt() { return paidAt; }\n"
+            + "    public void setPaidAt(LocalDateTime paidAt) { this.paidAt = paidAt; }\n"
+            + "    public String getShippedAt() { return shippedAt; }\n"
+            + "    public void setShippedAt(String shippedAt) { this.shippedAt = shippedAt; }\n"
+            + "}\n";
+
+    private static final String SLOT = "package demo;\n"
+            + "import com.kronos.spring.annotation.Time;\n"
+            + "import java.time.LocalDateTime;\n"
+            + "public record Slot(String name, @Time LocalDateTime start, int minutes) {\n"
+            + "}\n";
+
+    private static final String BASE_ENTITY = "package demo;\n"
+            + "import java.time.LocalDateTime;\n"
+            + "public abstract class BaseEntity {\n"
+            + "    protected LocalDateTime createdAt;\n"
+            + "}\n";
+
+    private static final String INVOICE = "package demo;\n"
+            + "import java.util.List;\n"
+            + "public class Invoice extends BaseEntity {\n"
+            + "    String number;\n"
+            + "    List<Line> lines;\n"
+            + "}\n";
+
+    private static final String LINE = "package demo;\n"
+            + "import java.util.Date;\n"
+            + "public class Line {\n"
+            + "    Date bookedAt;\n"
+            + "}\n";
+
+    private static final String TAG = "package demo;\n"
+            + "public class Tag {\n"
+            + "    String name;\n"
+            + "    int weight;\n"
+            + "}\n";
+
+    @Test
+    void generatesAccessorsUsedInsteadOfReflection(@TempDir Path dir) throws Exception {
+        ClassLoader loader = compile(dir, Map.of("demo/Order.java", ORDER, "demo/Slot.java", SLOT));
+        Class<?> orderType = loader.loadClass("demo.Order");
+        Class<?> slotType = loader.loadClass("demo.Slot");
+
+        KronosAccessor.Writable accessor = (KronosAccessor.Writable) loader
+                .loadClass("demo.Order" + KronosAccessor.SUFFIX).getDeclaredConstructor().newInstance();
+        assertSame(orderType, accessor.targetType());
+        assertArrayEquals(new String[]{"createdAt", "paidAt", "shippedAt"}, accessor.fieldNames(),
+                "没有getter的私有字段和final字段不生成，运行时回退到反射");
+
+        ObjectProcessor processor = new ObjectProcessor(Map.<Class<?>, TypeConverter<?>>of(
+                LocalDateTime.class, new LocalDateTimeConverter(), String.class, new StringDateTimeConverter()));
+        ConversionPlan plan = processor.getPlan(orderType);
+        for (FieldPlan field : plan.getFields()) {
+            // 生成的代码无法写入final字段，回退到反射
+            assertEquals(!field.getName().equals("hidden") && !field.getName().equals("closedAt"), field.isGenerated(),
+                    field.getName());
+        }
+
+        LocalDateTime base = LocalDateTime.of(2025, 5, 20, 0, 0);
+        Object order = orderType.getDeclaredConstructor().newInstance();
+        accessor.set(order, 0, base);
+        accessor.set(order, 1, base);
+        accessor.set(order, 2, "2025/05/20 00:00:00");
+        processor.process(order, context());
+        assertEquals(base.plusHours(8), accessor.get(order, 0));
+        assertEquals(base.plusHours(8), accessor.get(order, 1));
+        assertEquals("2025/05/20 08:00:00", accessor.get(order, 2));
+        Field closedAt = orderType.getDeclaredField("closedAt");
+        closedAt.setAccessible(true);
+        assertEquals(base.plusHours(8), closedAt.get(order));
+
+        Object slot = slotType.getDeclaredConstructors()[0].newInstance("standup", base, 15);
+        Object converted = processor.process(slot, context());
+        assertNotSame(slot, converted, "record通过生成的构造调用重建");
+        assertEquals(List.of("standup", base.plusHours(8), 15), List.of(
+                slotType.getMethod("name").invoke(converted),
+                slotType.getMethod("start").invoke(converted),
+                slotType.getMethod("minutes").invoke(converted)));
+    }
+
+    @Test
+    void generatesAccessorsForEveryClassThatMayHoldTime(@TempDir Path dir) throws Exception {
+        ClassLoader loader = compile(dir, Map.of("demo/BaseEntity.java", BASE_ENTITY, "demo/Invoice.java", INVOICE,
+                "demo/Line.java", LINE, "demo/Tag.java", TAG));
+
+        // 没有@Time字段的父类和集合元素类同样生成，只有不可能承载时间数据的类不生成
+        assertNotNull(loader.getResource("demo/BaseEntity" + KronosAccessor.SUFFIX + ".class"));
+        assertNotNull(loader.getResource("demo/Invoice" + KronosAccessor.SUFFIX + ".class"));
+        assertNotNull(loader.getResource("demo/Line" + KronosAccessor.SUFFIX + ".class"));
+        assertNull(loader.getResource("demo/Tag" + KronosAccessor.SUFFIX + ".class"));
+
+        ObjectProcessor processor = new ObjectProcessor(Map.<Class<?>, TypeConverter<?>>of(
+                LocalDateTime.class, new LocalDateTimeConverter(), String.class, new StringDateTimeConverter()));
+        ConversionPlan plan = processor.getPlan(loader.loadClass("demo.Invoice"));
+        assertEquals(List.of("lines", "createdAt"), plan.getFields().stream().map(FieldPlan::getName).toList());
+        for (FieldPlan field : plan.getFields()) {
+            assertTrue(field.isGenerated(), "父类的字段通过父类的访问器读写: " + field.getName());
+        }
+    }
+
+    private static ConversionContext context() {
+        return new ConversionContext(ZoneId.of("UTC"), ZoneId.of("Asia/Shanghai"), "yyyy-MM-dd HH:mm:ss");
+    }
+
+    private static ClassLoader compile(Path dir, Map<String, String> sources) throws Exception {
+        Path sourceDir = Files.createDirectories(dir.resolve("src"));
+        Path classDir = Files.createDirectories(dir.resolve("classes"));
+        List<File> files = new java.util.ArrayList<>();
+        for (Map.Entry<String, String> source : sources.entrySet()) {
+            Path file = sourceDir.resolve(source.getKey());
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, source.getValue());
+            files.add(file.toFile());
+        }
+
+        // 生成的代码只依赖kronos-core
+        String classpath = Path.of(Time.class.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        JavaCompiler.CompilationTask task = compiler.getTask(null, null, null,
+                List.of("-classpath", classpath, "-d", classDir.toString(), "-s", sourceDir.toString()),
+                null, compiler.getStandardFileManager(null, null, null).getJavaFileObjectsFromFiles(files));
+        task.setProcessors(List.of(new KronosAccessorProcessor()));
+        assertTrue(task.call(), "编译失败");
+        return new URLClassLoader(new URL[]{classDir.toUri().toURL()}, KronosAccessorProcessorTests.class.getClassLoader());
+    }
+}
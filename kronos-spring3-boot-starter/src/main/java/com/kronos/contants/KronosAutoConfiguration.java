@@ -1,15 +1,15 @@
 package com.kronos.contants;
 
 import com.kronos.spring.config.KronosConfiguration;
-import org.springframework.context.annotation.ComponentScan;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.context.annotation.Import;
 
 /**
  * @author zhangyh
  * @Date 2025/5/26 15:04
- * @desc
+ * @desc 所有bean都在KronosConfiguration中声明，不需要扫描com.kronos.spring包
  */
-@ComponentScan("com.kronos.spring")
+@AutoConfiguration
 @Import({KronosConfiguration.class})
 public class KronosAutoConfiguration {
 }